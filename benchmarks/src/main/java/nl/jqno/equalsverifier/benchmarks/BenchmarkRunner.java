@@ -0,0 +1,28 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so every result reports
+ * ops/s as well as the number of bytes allocated per operation.
+ *
+ * Accepts the same command line arguments as JMH's own main class, e.g.
+ * {@code java -jar target/benchmarks.jar Internals -f 1}.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+        // Do not instantiate
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,96 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.benchmarks.types.DeepType;
+import nl.jqno.equalsverifier.benchmarks.types.GenericType;
+import nl.jqno.equalsverifier.benchmarks.types.WideType;
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
+import nl.jqno.equalsverifier.internal.util.SharedCaches;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the stages that {@code verify()} spends most of its time in,
+ * each in isolation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InternalsBenchmark {
+    private static final TypeTag WIDE_TAG = new TypeTag(WideType.class);
+    private static final TypeTag GENERIC_TAG = new TypeTag(GenericType.class);
+
+    private PrefabValues prefabValues;
+    private WideType wide;
+
+    @Setup
+    public void setUp() {
+        prefabValues = SharedCaches.of(new FactoryCache()).getPrefabValues();
+        wide = prefabValues.giveRed(WIDE_TAG);
+    }
+
+    @Benchmark
+    public Object prefabValuesCold() {
+        PrefabValues fresh = SharedCaches.of(new FactoryCache()).getPrefabValues();
+        return fresh.giveRed(WIDE_TAG);
+    }
+
+    @Benchmark
+    public Object prefabValuesWarm() {
+        return prefabValues.giveRed(WIDE_TAG);
+    }
+
+    @Benchmark
+    public void typeTagOf(Blackhole bh) {
+        for (Field f : FieldIterable.of(GenericType.class)) {
+            bh.consume(TypeTag.of(f, GENERIC_TAG));
+        }
+    }
+
+    @Benchmark
+    public void fieldIterable(Blackhole bh) {
+        for (Field f : FieldIterable.of(DeepType.class)) {
+            bh.consume(f);
+        }
+    }
+
+    @Benchmark
+    public Object copy() {
+        return ObjectAccessor.of(wide).copy();
+    }
+
+    /*
+     * Scrambles a fresh copy, so it doesn't modify the shared prefab value
+     * that the other benchmarks use. Compare it with copy() to see how long
+     * the scrambling itself takes.
+     */
+    @Benchmark
+    public Object scramble() {
+        ObjectAccessor<WideType> accessor = ObjectAccessor.of(ObjectAccessor.of(wide).copy());
+        accessor.scramble(prefabValues, WIDE_TAG);
+        return accessor.get();
+    }
+
+    /*
+     * Sets all fields of a fresh copy to their default values, like the
+     * null checks do. Compare it with copy().
+     */
+    @Benchmark
+    public Object defaultFields() {
+        ObjectAccessor<WideType> accessor = ObjectAccessor.of(ObjectAccessor.of(wide).copy());
+        for (FieldAccessor field : accessor.fieldAccessors()) {
+            field.defaultField();
+        }
+        return accessor.get();
+    }
+}
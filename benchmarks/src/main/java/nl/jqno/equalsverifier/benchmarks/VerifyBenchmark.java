@@ -0,0 +1,77 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.benchmarks.types.DeepType;
+import nl.jqno.equalsverifier.benchmarks.types.GenericType;
+import nl.jqno.equalsverifier.benchmarks.types.WideType;
+import nl.jqno.equalsverifier.coverage.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures end-to-end calls to {@code verify()}, both for the hand-written
+ * and generated equals methods in the coverage tests and for synthetic
+ * classes that stress a specific dimension of a class.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VerifyBenchmark {
+
+    @Benchmark
+    public void intelliJGetClassPoint() {
+        EqualsVerifier.forClass(IntelliJGetClassPoint.class).verify();
+    }
+
+    @Benchmark
+    public void eclipseInstanceOfPoint() {
+        EqualsVerifier.forClass(EclipseInstanceOfPoint.class).verify();
+    }
+
+    @Benchmark
+    public void lombokInstanceOfPoint() {
+        EqualsVerifier.forClass(LombokInstanceOfPoint.class).verify();
+    }
+
+    @Benchmark
+    public void lombokCanEqual() {
+        EqualsVerifier.forClass(LombokCanEqual.ColorPoint.class)
+                .withRedefinedSuperclass()
+                .withRedefinedSubclass(LombokCanEqual.EndPoint.class)
+                .verify();
+    }
+
+    @Benchmark
+    public void handwrittenCanEqual() {
+        EqualsVerifier.forClass(HandwrittenCanEqual.ColorPoint.class)
+                .withRedefinedSuperclass()
+                .withRedefinedSubclass(HandwrittenCanEqual.EndPoint.class)
+                .verify();
+    }
+
+    @Benchmark
+    public void wideType() {
+        EqualsVerifier.forClass(WideType.class)
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify();
+    }
+
+    @Benchmark
+    public void deepType() {
+        EqualsVerifier.forClass(DeepType.class)
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify();
+    }
+
+    @Benchmark
+    public void genericType() {
+        EqualsVerifier.forClass(GenericType.class)
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify();
+    }
+}
@@ -0,0 +1,23 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+public final class DeepType extends DeepTypeLevels.Level3 {
+    private String leaf;
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof DeepType)) {
+            return false;
+        }
+        DeepType other = (DeepType)obj;
+        return level0 == other.level0 && Objects.equals(level1, other.level1) &&
+                level2 == other.level2 && Objects.equals(level3, other.level3) &&
+                Objects.equals(leaf, other.leaf);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(level0, level1, level2, level3, leaf);
+    }
+}
@@ -0,0 +1,26 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+/**
+ * The superclasses of {@link DeepType}, which only declare fields.
+ */
+public final class DeepTypeLevels {
+    private DeepTypeLevels() {
+        // Do not instantiate
+    }
+
+    public abstract static class Level0 {
+        protected int level0;
+    }
+
+    public abstract static class Level1 extends Level0 {
+        protected String level1;
+    }
+
+    public abstract static class Level2 extends Level1 {
+        protected long level2;
+    }
+
+    public abstract static class Level3 extends Level2 {
+        protected Object level3;
+    }
+}
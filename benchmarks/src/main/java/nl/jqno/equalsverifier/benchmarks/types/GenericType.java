@@ -0,0 +1,43 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.*;
+
+public final class GenericType {
+    private List<String> list;
+    private Map<String, List<Integer>> map;
+    private Optional<Set<Long>> optional;
+    private Container<Map<Integer, String>> container;
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GenericType)) {
+            return false;
+        }
+        GenericType other = (GenericType)obj;
+        return Objects.equals(list, other.list) && Objects.equals(map, other.map) &&
+                Objects.equals(optional, other.optional) && Objects.equals(container, other.container);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(list, map, optional, container);
+    }
+
+    public static final class Container<T> {
+        private final T value;
+
+        public Container(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Container && Objects.equals(value, ((Container<?>)obj).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+    }
+}
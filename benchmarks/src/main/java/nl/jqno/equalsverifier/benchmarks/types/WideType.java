@@ -0,0 +1,67 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+public final class WideType {
+    private int i0;
+    private long l0;
+    private double d0;
+    private boolean b0;
+    private String s0;
+    private Integer bi0;
+    private int i1;
+    private long l1;
+    private double d1;
+    private boolean b1;
+    private String s1;
+    private Integer bi1;
+    private int i2;
+    private long l2;
+    private double d2;
+    private boolean b2;
+    private String s2;
+    private Integer bi2;
+    private int i3;
+    private long l3;
+    private double d3;
+    private boolean b3;
+    private String s3;
+    private Integer bi3;
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof WideType)) {
+            return false;
+        }
+        WideType other = (WideType)obj;
+        return Objects.equals(i0, other.i0) &&
+                Objects.equals(l0, other.l0) &&
+                Objects.equals(d0, other.d0) &&
+                Objects.equals(b0, other.b0) &&
+                Objects.equals(s0, other.s0) &&
+                Objects.equals(bi0, other.bi0) &&
+                Objects.equals(i1, other.i1) &&
+                Objects.equals(l1, other.l1) &&
+                Objects.equals(d1, other.d1) &&
+                Objects.equals(b1, other.b1) &&
+                Objects.equals(s1, other.s1) &&
+                Objects.equals(bi1, other.bi1) &&
+                Objects.equals(i2, other.i2) &&
+                Objects.equals(l2, other.l2) &&
+                Objects.equals(d2, other.d2) &&
+                Objects.equals(b2, other.b2) &&
+                Objects.equals(s2, other.s2) &&
+                Objects.equals(bi2, other.bi2) &&
+                Objects.equals(i3, other.i3) &&
+                Objects.equals(l3, other.l3) &&
+                Objects.equals(d3, other.d3) &&
+                Objects.equals(b3, other.b3) &&
+                Objects.equals(s3, other.s3) &&
+                Objects.equals(bi3, other.bi3);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(i0, l0, d0, b0, s0, bi0, i1, l1, d1, b1, s1, bi1, i2, l2, d2, b2, s2, bi2, i3, l3, d3, b3, s3, bi3);
+    }
+}
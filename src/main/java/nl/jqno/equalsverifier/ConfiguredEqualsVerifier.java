@@ -3,15 +3,25 @@ package nl.jqno.equalsverifier;
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.reflection.PackageScanner;
 import nl.jqno.equalsverifier.internal.util.PrefabValuesApi;
+import nl.jqno.equalsverifier.internal.util.Validations;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
 
 public final class ConfiguredEqualsVerifier {
     private final EnumSet<Warning> warningsToSuppress = EnumSet.noneOf(Warning.class);
     private final FactoryCache factoryCache = new FactoryCache();
     private boolean usingGetClass = false;
+    private boolean usingSharedPrefabValueCache = false;
+    private final List<VerificationListener> listeners = new ArrayList<>();
+    private boolean usingPerformanceCounters = false;
+    private boolean collectingAllViolations = false;
 
     /**
      * Suppresses warnings given by {@code EqualsVerifier}. See {@link Warning}
@@ -91,6 +101,69 @@ public final class ConfiguredEqualsVerifier {
         return this;
     }
 
+    /**
+     * Shares the prefab values with other verifications in the same JVM.
+     *
+     * Prefab values are created at most once for all verifications that opt
+     * in, provided that the classes under test have the same ClassLoader and
+     * that the same prefab values were added to them. This is useful when
+     * many classes contain fields of the same types. Use
+     * {@link EqualsVerifier#sharedPrefabValueCacheStatistics()} to see how
+     * often they are reused.
+     *
+     * Prefab values that were added with {@code withPrefabValues} are
+     * compared by identity. Verifications that add new instances every time,
+     * such as {@code withPrefabValues(Foo.class, new Foo(1), new Foo(2))},
+     * never share their prefab values, even if the instances are equal, and
+     * they push the prefab values of other verifications out of the cache.
+     * Keep such instances in constants instead.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public ConfiguredEqualsVerifier usingSharedPrefabValueCache() {
+        usingSharedPrefabValueCache = true;
+        return this;
+    }
+
+    /**
+     * Registers a listener that receives timing events for each phase of the
+     * verification of every class that is verified with this configuration.
+     * See {@link VerificationListener} for the events that are sent.
+     *
+     * @param listener The listener to register.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If {@code listener} is null.
+     */
+    public ConfiguredEqualsVerifier withVerificationListener(VerificationListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
+    /**
+     * Counts what {@code EqualsVerifier} does while it verifies a class, such
+     * as how many objects it instantiates and how many prefab values it finds
+     * in its cache. The counts are available from
+     * {@link EqualsVerifierReport#getPerformanceCounters()}.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public ConfiguredEqualsVerifier withPerformanceCounters() {
+        usingPerformanceCounters = true;
+        return this;
+    }
+
+    /**
+     * Continues with the next check when a check fails, instead of stopping
+     * at the first problem. Each problem is available from
+     * {@link EqualsVerifierReport#getViolations()}.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public ConfiguredEqualsVerifier collectingAllViolations() {
+        collectingAllViolations = true;
+        return this;
+    }
+
     /**
      * Factory method. For general use.
      *
@@ -100,6 +173,67 @@ public final class ConfiguredEqualsVerifier {
      * @return A fluent API for EqualsVerifier.
      */
     public <T> EqualsVerifierApi<T> forClass(Class<T> type) {
-        return new EqualsVerifierApi<>(type, EnumSet.copyOf(warningsToSuppress), factoryCache, usingGetClass);
+        EqualsVerifierApi<T> result = new EqualsVerifierApi<>(type, EnumSet.copyOf(warningsToSuppress), factoryCache, usingGetClass);
+        listeners.forEach(result::withVerificationListener);
+        if (usingPerformanceCounters) {
+            result.withPerformanceCounters();
+        }
+        if (collectingAllViolations) {
+            result.collectingAllViolations();
+        }
+        return usingSharedPrefabValueCache ? result.usingSharedPrefabValueCache() : result;
+    }
+
+    /**
+     * Factory method. For verifying several classes at once.
+     *
+     * @param classes The classes for which the {@code equals} method should
+     *          be tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public MultipleTypeEqualsVerifierApi forClasses(Iterable<? extends Class<?>> classes) {
+        List<Class<?>> types = new ArrayList<>();
+        classes.forEach(types::add);
+        Validations.validateClassesGiven(types);
+        MultipleTypeEqualsVerifierApi result =
+            new MultipleTypeEqualsVerifierApi(types, EnumSet.copyOf(warningsToSuppress), factoryCache, usingGetClass);
+        listeners.forEach(result::withVerificationListener);
+        if (usingPerformanceCounters) {
+            result.withPerformanceCounters();
+        }
+        if (collectingAllViolations) {
+            result.collectingAllViolations();
+        }
+        return usingSharedPrefabValueCache ? result.usingSharedPrefabValueCache() : result;
+    }
+
+    /**
+     * Factory method. For verifying several classes at once.
+     *
+     * @param classes The classes for which the {@code equals} method should
+     *          be tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public MultipleTypeEqualsVerifierApi forClasses(Class<?>... classes) {
+        return forClasses(Arrays.asList(classes));
+    }
+
+    /**
+     * Factory method. For verifying all classes in a package at once.
+     *
+     * Only top-level classes directly in the given package are verified;
+     * classes in sub-packages and classes whose name ends with "Test" are
+     * skipped. Classes that live inside a jar file are not found. If no
+     * classes are found, an {@link IllegalStateException} is thrown, so a
+     * misspelled package name doesn't go unnoticed.
+     *
+     * @param packageName The name of the package whose classes should be
+     *          tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public MultipleTypeEqualsVerifierApi forPackage(String packageName) {
+        List<Class<?>> types = PackageScanner.getClassesIn(packageName);
+        Validations.validatePackageContainsClasses(packageName, types);
+        return forClasses(types);
     }
 }
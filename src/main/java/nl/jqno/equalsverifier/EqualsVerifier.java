@@ -1,5 +1,6 @@
 package nl.jqno.equalsverifier;
 
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedPrefabValues;
 import nl.jqno.equalsverifier.internal.util.ListBuilders;
 
 import java.util.List;
@@ -54,6 +55,45 @@ public final class EqualsVerifier {
         return new EqualsVerifierApi<>(type);
     }
 
+    /**
+     * Factory method. For verifying several classes at once.
+     *
+     * @param classes The classes for which the {@code equals} method should
+     *          be tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public static MultipleTypeEqualsVerifierApi forClasses(Iterable<? extends Class<?>> classes) {
+        return configure().forClasses(classes);
+    }
+
+    /**
+     * Factory method. For verifying several classes at once.
+     *
+     * @param classes The classes for which the {@code equals} method should
+     *          be tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public static MultipleTypeEqualsVerifierApi forClasses(Class<?>... classes) {
+        return configure().forClasses(classes);
+    }
+
+    /**
+     * Factory method. For verifying all classes in a package at once.
+     *
+     * Only top-level classes directly in the given package are verified;
+     * classes in sub-packages and classes whose name ends with "Test" are
+     * skipped. Classes that live inside a jar file are not found. If no
+     * classes are found, an {@link IllegalStateException} is thrown, so a
+     * misspelled package name doesn't go unnoticed.
+     *
+     * @param packageName The name of the package whose classes should be
+     *          tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public static MultipleTypeEqualsVerifierApi forPackage(String packageName) {
+        return configure().forPackage(packageName);
+    }
+
     /**
      * Factory method. Asks for a list of equal, but not identical, instances
      * of T.
@@ -91,4 +131,16 @@ public final class EqualsVerifier {
 
         return new RelaxedEqualsVerifierApi<>(type, examples);
     }
+
+    /**
+     * Returns how often the verifications that opted in with
+     * {@code usingSharedPrefabValueCache()} could reuse each other's prefab
+     * values.
+     *
+     * @return A snapshot of the statistics of the JVM-wide prefab value
+     *          cache.
+     */
+    public static SharedPrefabValueCacheStatistics sharedPrefabValueCacheStatistics() {
+        return new SharedPrefabValueCacheStatistics(SharedPrefabValues.statistics());
+    }
 }
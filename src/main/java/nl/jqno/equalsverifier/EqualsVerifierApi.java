@@ -31,6 +31,11 @@ public class EqualsVerifierApi<T> {
     private Set<String> ignoredAnnotationClassNames = new HashSet<>();
     private List<T> equalExamples = new ArrayList<>();
     private List<T> unequalExamples = new ArrayList<>();
+    private SharedCaches sharedCaches = null;
+    private boolean usingSharedPrefabValueCache = false;
+    private List<VerificationListener> listeners = new ArrayList<>();
+    private boolean usingPerformanceCounters = false;
+    private boolean collectingAllViolations = false;
 
     /**
      * Constructor, only to be called by {@link EqualsVerifier#forClass(Class)}.
@@ -59,6 +64,17 @@ public class EqualsVerifierApi<T> {
         this.unequalExamples = unequalExamples;
     }
 
+    /**
+     * Lets this verification use caches that are shared with the
+     * verifications of other classes. Only to be called by
+     * {@link MultipleTypeEqualsVerifierApi}, which guarantees that all these
+     * verifications use the same prefab values.
+     */
+    /* package protected */ EqualsVerifierApi<T> withSharedCaches(SharedCaches caches) {
+        this.sharedCaches = caches;
+        return this;
+    }
+
     /**
      * Suppresses warnings given by {@code EqualsVerifier}. See {@link Warning}
      * to see what warnings can be suppressed.
@@ -140,6 +156,74 @@ public class EqualsVerifierApi<T> {
         return this;
     }
 
+    /**
+     * Shares the prefab values with other verifications in the same JVM.
+     *
+     * Prefab values are created at most once for all verifications that opt
+     * in, provided that the classes under test have the same ClassLoader and
+     * that the same prefab values were added to them. This is useful when
+     * many classes contain fields of the same types. Use
+     * {@link EqualsVerifier#sharedPrefabValueCacheStatistics()} to see how
+     * often they are reused.
+     *
+     * Prefab values that were added with {@code withPrefabValues} are
+     * compared by identity. Verifications that add new instances every time,
+     * such as {@code withPrefabValues(Foo.class, new Foo(1), new Foo(2))},
+     * never share their prefab values, even if the instances are equal, and
+     * they push the prefab values of other verifications out of the cache.
+     * Keep such instances in constants instead.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public EqualsVerifierApi<T> usingSharedPrefabValueCache() {
+        this.usingSharedPrefabValueCache = true;
+        return this;
+    }
+
+    /**
+     * Registers a listener that receives timing events for each phase of the
+     * verification. See {@link VerificationListener} for the events that are
+     * sent.
+     *
+     * @param listener The listener to register.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If {@code listener} is null.
+     */
+    public EqualsVerifierApi<T> withVerificationListener(VerificationListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
+    /**
+     * Counts what {@code EqualsVerifier} does while it verifies the class,
+     * such as how many objects it instantiates and how many prefab values
+     * it finds in its cache. The counts are available from
+     * {@link EqualsVerifierReport#getPerformanceCounters()}.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public EqualsVerifierApi<T> withPerformanceCounters() {
+        this.usingPerformanceCounters = true;
+        return this;
+    }
+
+    /**
+     * Continues with the next check when a check fails, instead of stopping
+     * at the first problem. This way, a single run finds all the problems
+     * in the class. Each problem is available from
+     * {@link EqualsVerifierReport#getViolations()}, and the message lists all
+     * of them.
+     *
+     * Checks that can only be performed when an earlier check passed, are
+     * skipped when that check failed.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public EqualsVerifierApi<T> collectingAllViolations() {
+        this.collectingAllViolations = true;
+        return this;
+    }
+
     /**
      * Signals that all given fields are not relevant for the {@code equals}
      * contract. {@code EqualsVerifier} will not fail if one of these fields
@@ -298,14 +382,15 @@ public class EqualsVerifierApi<T> {
      *          {@link EqualsVerifier}'s preconditions do not hold.
      */
     public void verify() {
+        ViolationCollector violations = newViolationCollector();
         try {
-            performVerification();
+            performVerification(violations);
         }
         catch (MessagingException e) {
-            throw new AssertionError(buildErrorMessage(e.getDescription()), e);
+            throw new AssertionError(buildErrorMessage(e.getDescription(), violations), e);
         }
         catch (Throwable e) {
-            throw new AssertionError(buildErrorMessage(e.getMessage()), e);
+            throw new AssertionError(buildErrorMessage(e.getMessage(), violations), e);
         }
     }
 
@@ -319,65 +404,126 @@ public class EqualsVerifierApi<T> {
      *          preconditions hold.
      */
     public EqualsVerifierReport report() {
+        Counters counters = usingPerformanceCounters ? Counters.start() : null;
+        ViolationCollector violations = newViolationCollector();
+        EqualsVerifierReport result;
         try {
-            performVerification();
-            return EqualsVerifierReport.SUCCESS;
+            performVerification(violations);
+            result = EqualsVerifierReport.success(type);
         }
         catch (MessagingException e) {
-            return new EqualsVerifierReport(false, buildErrorMessage(e.getDescription()), e);
+            result = buildFailure(e.getDescription(), e, violations);
         }
         catch (Throwable e) {
-            return new EqualsVerifierReport(false, buildErrorMessage(e.getMessage()), e);
+            result = buildFailure(e.getMessage(), e, violations);
+        }
+
+        if (counters == null) {
+            return result;
+        }
+        return result.withPerformanceCounters(new PerformanceCounters(counters.stop()));
+    }
+
+    private ViolationCollector newViolationCollector() {
+        return collectingAllViolations ? ViolationCollector.collecting() : ViolationCollector.NONE;
+    }
+
+    private EqualsVerifierReport buildFailure(String description, Throwable cause, ViolationCollector collector) {
+        List<Violation> violations = new ArrayList<>();
+        for (ViolationCollector.Failure f : collector.getFailures()) {
+            violations.add(new Violation(f.getCheck(), f.getField(), f.getDescription(), f.getCause()));
+        }
+        if (violations.isEmpty()) {
+            violations.add(new Violation(null, null, description, cause));
         }
+        return EqualsVerifierReport.failure(type, buildErrorMessage(description, collector), cause, violations);
     }
 
-    private String buildErrorMessage(String description) {
+    private String buildErrorMessage(String description, ViolationCollector violations) {
+        int count = violations.getFailures().size();
         return Formatter.of(
-                "EqualsVerifier found a problem in class %%.\n-> %%\n\nFor more information, go to: http://www.jqno.nl/equalsverifier/errormessages",
+                "EqualsVerifier found %% in class %%.\n-> %%\n\nFor more information, go to: http://www.jqno.nl/equalsverifier/errormessages",
+                count > 1 ? count + " problems" : "a problem",
                 type.getSimpleName(),
                 description).format();
     }
 
-    private void performVerification() {
+    private void performVerification(ViolationCollector violations) {
         if (type.isEnum() || type.isInterface()) {
             return;
         }
 
-        Configuration<T> config = buildConfig();
-        Validations.validateProcessedAnnotations(type, config.getAnnotationCache(), warningsToSuppress, allIncludedFields, allExcludedFields);
-
-        verifyWithoutExamples(config);
-        verifyWithExamples(config);
+        Instrumentation instrumentation = Instrumentation.of(type, listeners);
+        instrumentation.verification(() -> {
+            Configuration<T> config =
+                instrumentation.phase(VerificationListener.CONFIGURATION, () -> buildConfig(instrumentation, violations));
+            Validations.validateProcessedAnnotations(type, config.getAnnotationCache(), warningsToSuppress, allIncludedFields, allExcludedFields);
+
+            violations.verify(() -> {
+                if (verifyPreconditions(config)) {
+                    verifyWithoutExamples(config);
+                    verifyWithExamples(config);
+                }
+            });
+        });
     }
 
-    private Configuration<T> buildConfig() {
+    private Configuration<T> buildConfig(Instrumentation instrumentation, ViolationCollector violations) {
+        SharedCaches caches = sharedCaches;
+        if (caches == null) {
+            caches = usingSharedPrefabValueCache ? SharedCaches.jvmWide(type, factoryCache) : SharedCaches.of(factoryCache);
+        }
         return Configuration.build(type, allExcludedFields, allIncludedFields, nonnullFields, cachedHashCodeInitializer,
-                hasRedefinedSuperclass, redefinedSubclass, usingGetClass, warningsToSuppress, factoryCache,
-            ignoredAnnotationClassNames, actualFields, equalExamples, unequalExamples);
+                hasRedefinedSuperclass, redefinedSubclass, usingGetClass, warningsToSuppress, caches,
+            ignoredAnnotationClassNames, actualFields, equalExamples, unequalExamples, instrumentation, violations);
+    }
+
+    private boolean verifyPreconditions(Configuration<T> config) {
+        Checker[] preconditions = {
+            new SignatureChecker<>(config),
+            new AbstractDelegationChecker<>(config)
+        };
+
+        // The other checks call equals and hashCode, so there's no point in
+        // running them if they're overloaded, or if they call an abstract
+        // method.
+        return check(config, preconditions);
     }
 
     private void verifyWithoutExamples(Configuration<T> config) {
         Checker[] checkers = {
-            new SignatureChecker<>(config),
-            new AbstractDelegationChecker<>(config),
             new NullChecker<>(config),
             new CachedHashCodeChecker<>(config)
         };
 
-        for (Checker checker : checkers) {
-            checker.check();
-        }
+        check(config, checkers);
     }
 
     private void verifyWithExamples(Configuration<T> config) {
+        Checker[] preconditions = {
+            new ExamplesChecker<>(config)
+        };
         Checker[] checkers = {
-            new ExamplesChecker<>(config),
             new HierarchyChecker<>(config),
             new FieldsChecker<>(config)
         };
 
+        // The other checks assume that the examples are equal to themselves
+        // and to their copies, so there's no point in running them if that
+        // doesn't hold.
+        if (check(config, preconditions)) {
+            check(config, checkers);
+        }
+    }
+
+    private boolean check(Configuration<T> config, Checker[] checkers) {
+        Instrumentation instrumentation = config.getInstrumentation();
+        ViolationCollector violations = config.getViolationCollector();
+        boolean result = true;
         for (Checker checker : checkers) {
-            checker.check();
+            String name = checker.getClass().getSimpleName();
+            result &= violations.run(name, null, () -> instrumentation.phase(name, checker::check));
         }
+        return result;
     }
 }
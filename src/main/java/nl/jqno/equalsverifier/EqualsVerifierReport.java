@@ -1,5 +1,8 @@
 package nl.jqno.equalsverifier;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Contains the results of an {@link EqualsVerifier} run.
  *
@@ -13,19 +16,58 @@ public class EqualsVerifierReport {
     /**
      * Represents a successful run of EqualsVerifier.
      */
-    public static final EqualsVerifierReport SUCCESS = new EqualsVerifierReport(true, "", null);
+    public static final EqualsVerifierReport SUCCESS = new EqualsVerifierReport(null, true, "", null, Collections.emptyList(), null);
 
+    private final Class<?> type;
     private final boolean successful;
     private final String message;
     private final Throwable cause;
+    private final List<Violation> violations;
+    private final PerformanceCounters performanceCounters;
 
     /**
-     * Constructor, only to be called by {@link EqualsVerifierApi#report()}.
+     * Constructor, only to be called by the factory methods and by
+     * {@link #withPerformanceCounters(PerformanceCounters)}.
      */
-    /* package protected */ EqualsVerifierReport(boolean successful, String message, Throwable cause) {
+    /* package protected */ EqualsVerifierReport(Class<?> type, boolean successful, String message, Throwable cause,
+            List<Violation> violations, PerformanceCounters performanceCounters) {
+        this.type = type;
         this.successful = successful;
         this.message = message;
         this.cause = cause;
+        this.violations = violations;
+        this.performanceCounters = performanceCounters;
+    }
+
+    /**
+     * Factory method, only to be called by {@link EqualsVerifierApi#report()}.
+     */
+    /* package protected */ static EqualsVerifierReport success(Class<?> type) {
+        return new EqualsVerifierReport(type, true, "", null, Collections.emptyList(), null);
+    }
+
+    /**
+     * Factory method, only to be called by {@link EqualsVerifierApi#report()}.
+     */
+    /* package protected */ static EqualsVerifierReport failure(Class<?> type, String message, Throwable cause,
+            List<Violation> violations) {
+        return new EqualsVerifierReport(type, false, message, cause, Collections.unmodifiableList(violations), null);
+    }
+
+    /**
+     * Returns a copy of this report with the given counters, only to be called
+     * by {@link EqualsVerifierApi#report()}.
+     */
+    /* package protected */ EqualsVerifierReport withPerformanceCounters(PerformanceCounters counters) {
+        return new EqualsVerifierReport(type, successful, message, cause, violations, counters);
+    }
+
+    /**
+     * @return the class that was tested by {@link EqualsVerifierApi#report()};
+     *          or null for {@link #SUCCESS}.
+     */
+    public Class<?> getType() {
+        return type;
     }
 
     /**
@@ -56,4 +98,23 @@ public class EqualsVerifierReport {
     public Throwable getCause() {
         return cause;
     }
+
+    /**
+     * @return the problems that were found in the class tested by
+     *          {@link EqualsVerifierApi#report()}; or an empty list if there
+     *          were none. Contains a single element, unless
+     *          {@link EqualsVerifierApi#collectingAllViolations()} was called.
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * @return what {@link EqualsVerifier} did while it tested the class, if
+     *          {@link EqualsVerifierApi#withPerformanceCounters()} was
+     *          called; or null otherwise.
+     */
+    public PerformanceCounters getPerformanceCounters() {
+        return performanceCounters;
+    }
 }
@@ -0,0 +1,313 @@
+package nl.jqno.equalsverifier;
+
+import nl.jqno.equalsverifier.Func.Func1;
+import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.util.PrefabValuesApi;
+import nl.jqno.equalsverifier.internal.util.ProvidedPrefabValues;
+import nl.jqno.equalsverifier.internal.util.SharedCaches;
+import nl.jqno.equalsverifier.internal.util.Validations;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+/**
+ * Helps to construct an {@link EqualsVerifier} test for several classes at
+ * once, with a fluent API.
+ *
+ * All classes are verified with the same configuration. Because of that,
+ * prefab values and class file metadata can be shared between the
+ * verifications, which makes verifying many classes at once faster than
+ * verifying them one at a time.
+ */
+public class MultipleTypeEqualsVerifierApi {
+    private final List<Class<?>> types;
+    private final EnumSet<Warning> warningsToSuppress;
+    private final FactoryCache factoryCache;
+    private boolean usingGetClass;
+    private boolean usingSharedPrefabValueCache = false;
+    private final List<VerificationListener> listeners = new ArrayList<>();
+    private boolean usingPerformanceCounters = false;
+    private boolean collectingAllViolations = false;
+    private int parallelism = 1;
+
+    /**
+     * Constructor, only to be called by {@link EqualsVerifier} and
+     * {@link ConfiguredEqualsVerifier}.
+     */
+    /* package protected */ MultipleTypeEqualsVerifierApi(List<Class<?>> types, EnumSet<Warning> warningsToSuppress,
+            FactoryCache factoryCache, boolean usingGetClass) {
+        this.types = types;
+        this.warningsToSuppress = warningsToSuppress;
+        this.factoryCache = new FactoryCache().merge(factoryCache);
+        this.usingGetClass = usingGetClass;
+    }
+
+    /**
+     * Suppresses warnings given by {@code EqualsVerifier}. See {@link Warning}
+     * to see what warnings can be suppressed.
+     *
+     * @param warnings A list of warnings to suppress in
+     *          {@code EqualsVerifier}.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi suppress(Warning... warnings) {
+        Collections.addAll(warningsToSuppress, warnings);
+        Validations.validateWarnings(warningsToSuppress);
+        return this;
+    }
+
+    /**
+     * Adds prefabricated values for instance fields of classes that
+     * EqualsVerifier cannot instantiate by itself.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param red An instance of {@code S}.
+     * @param black Another instance of {@code S}, not equal to {@code red}.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If either {@code otherType}, {@code red},
+     *          or {@code black} is null.
+     * @throws IllegalArgumentException If {@code red} equals {@code black}.
+     */
+    public <S> MultipleTypeEqualsVerifierApi withPrefabValues(Class<S> otherType, S red, S black) {
+        PrefabValuesApi.addPrefabValues(factoryCache, otherType, red, black);
+        return this;
+    }
+
+    /**
+     * Adds a factory to generate prefabricated values for instance fields of
+     * classes with 1 generic type parameter that EqualsVerifier cannot
+     * instantiate by itself.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param factory A factory to generate an instance of {@code S}, given a
+     *          value of its generic type parameter.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException if either {@code otherType} or
+     *          {@code factory} is null.
+     */
+    public <S> MultipleTypeEqualsVerifierApi withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory) {
+        PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+        return this;
+    }
+
+    /**
+     * Adds a factory to generate prefabricated values for instance fields of
+     * classes with 2 generic type parameters that EqualsVerifier cannot
+     * instantiate by itself.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param factory A factory to generate an instance of {@code S}, given a
+     *          value of each of its generic type parameters.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException if either {@code otherType} or
+     *          {@code factory} is null.
+     */
+    public <S> MultipleTypeEqualsVerifierApi withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory) {
+        PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+        return this;
+    }
+
+    /**
+     * Signals that {@code getClass} is used in the implementation of the
+     * {@code equals} method, instead of an {@code instanceof} check.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi usingGetClass() {
+        usingGetClass = true;
+        return this;
+    }
+
+    /**
+     * Shares the prefab values with other verifications in the same JVM,
+     * not just with the verifications of the given classes.
+     *
+     * Prefab values are created at most once for all verifications that opt
+     * in, provided that the classes under test have the same ClassLoader and
+     * that the same prefab values were added to them. This is useful when
+     * many classes contain fields of the same types. Use
+     * {@link EqualsVerifier#sharedPrefabValueCacheStatistics()} to see how
+     * often they are reused.
+     *
+     * Prefab values that were added with {@code withPrefabValues} are
+     * compared by identity. Verifications that add new instances every time,
+     * such as {@code withPrefabValues(Foo.class, new Foo(1), new Foo(2))},
+     * never share their prefab values, even if the instances are equal, and
+     * they push the prefab values of other verifications out of the cache.
+     * Keep such instances in constants instead.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi usingSharedPrefabValueCache() {
+        usingSharedPrefabValueCache = true;
+        return this;
+    }
+
+    /**
+     * Registers a listener that receives timing events for each phase of the
+     * verification of each of the classes. See {@link VerificationListener}
+     * for the events that are sent.
+     *
+     * When the classes are verified in parallel, the listener receives events
+     * from several threads at once.
+     *
+     * @param listener The listener to register.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If {@code listener} is null.
+     */
+    public MultipleTypeEqualsVerifierApi withVerificationListener(VerificationListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
+    /**
+     * Counts what {@code EqualsVerifier} does while it verifies each of the classes, such
+     * as how many objects it instantiates and how many prefab values it finds
+     * in its cache. The counts are available from
+     * {@link EqualsVerifierReport#getPerformanceCounters()}.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi withPerformanceCounters() {
+        usingPerformanceCounters = true;
+        return this;
+    }
+
+    /**
+     * Continues with the next check when a check fails, instead of stopping
+     * at the first problem. Each problem is available from
+     * {@link EqualsVerifierReport#getViolations()}.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi collectingAllViolations() {
+        collectingAllViolations = true;
+        return this;
+    }
+
+    /**
+     * Verifies the classes in parallel, using as many threads as there are
+     * available processors.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi inParallel() {
+        return inParallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Verifies the classes in parallel, using the given number of threads.
+     *
+     * The results are reported in the same order as the classes were given,
+     * regardless of the order in which the verifications finish.
+     *
+     * @param threads The maximum number of classes to verify at the same
+     *          time.
+     * @return {@code this}, for easy method chaining.
+     * @throws IllegalArgumentException If {@code threads} is smaller than 1.
+     */
+    public MultipleTypeEqualsVerifierApi inParallel(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be at least 1, but was " + threads + ".");
+        }
+        this.parallelism = threads;
+        return this;
+    }
+
+    /**
+     * Performs the verification of the contracts for {@code equals} and
+     * {@code hashCode} for all given classes, and throws an
+     * {@link AssertionError} if there is a problem in any of them.
+     *
+     * The message of the {@link AssertionError} lists all classes that have a
+     * problem, followed by the error message for each of them.
+     *
+     * @throws AssertionError If the contract is not met by any of the given
+     *          classes, or if {@link EqualsVerifier}'s preconditions do not
+     *          hold.
+     */
+    public void verify() {
+        List<EqualsVerifierReport> failures = report()
+            .stream()
+            .filter(r -> !r.isSuccessful())
+            .collect(Collectors.toList());
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        String classes = failures.size() == 1 ? "class" : "classes";
+        String message = "EqualsVerifier found a problem in " + failures.size() + " " + classes + ".\n" +
+            failures.stream().map(r -> "* " + r.getType().getName()).collect(Collectors.joining("\n")) +
+            "\n---\n" +
+            failures.stream().map(EqualsVerifierReport::getMessage).collect(Collectors.joining("\n---\n"));
+        throw new AssertionError(message);
+    }
+
+    /**
+     * Performs the verification of the contracts for {@code equals} and
+     * {@code hashCode} for all given classes, and returns an
+     * {@link EqualsVerifierReport} for each of them.
+     *
+     * @return A list of {@link EqualsVerifierReport}s, in the same order as
+     *          the classes were given, that indicate whether the contract is
+     *          met and whether {@link EqualsVerifier}'s preconditions hold.
+     */
+    public List<EqualsVerifierReport> report() {
+        // The providers are found through the context ClassLoader, which may
+        // be different on the pool's worker threads, so look them up here.
+        FactoryCache defaultFactories = ProvidedPrefabValues.defaults();
+        if (parallelism == 1 || types.size() < 2) {
+            return reportSequentially(defaultFactories);
+        }
+        return reportInParallel(defaultFactories);
+    }
+
+    private List<EqualsVerifierReport> reportSequentially(FactoryCache defaultFactories) {
+        SharedCaches caches = SharedCaches.of(defaultFactories, factoryCache);
+        List<EqualsVerifierReport> result = new ArrayList<>();
+        for (Class<?> type : types) {
+            result.add(buildApi(type, defaultFactories, caches).report());
+        }
+        return result;
+    }
+
+    private List<EqualsVerifierReport> reportInParallel(FactoryCache defaultFactories) {
+        SharedCaches caches = SharedCaches.of(defaultFactories, factoryCache);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<EqualsVerifierReport>> tasks = new ArrayList<>();
+            for (Class<?> type : types) {
+                Callable<EqualsVerifierReport> task = () -> buildApi(type, defaultFactories, caches).report();
+                tasks.add(pool.submit(task));
+            }
+
+            List<EqualsVerifierReport> result = new ArrayList<>();
+            for (ForkJoinTask<EqualsVerifierReport> task : tasks) {
+                result.add(task.join());
+            }
+            return result;
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    private <T> EqualsVerifierApi<T> buildApi(Class<T> type, FactoryCache defaultFactories, SharedCaches caches) {
+        EnumSet<Warning> warnings = EnumSet.copyOf(warningsToSuppress);
+        SharedCaches actualCaches = usingSharedPrefabValueCache ? SharedCaches.jvmWide(type, defaultFactories, factoryCache) : caches;
+        EqualsVerifierApi<T> result = new EqualsVerifierApi<>(type, warnings, factoryCache, usingGetClass)
+            .withSharedCaches(actualCaches);
+        listeners.forEach(result::withVerificationListener);
+        if (collectingAllViolations) {
+            result.collectingAllViolations();
+        }
+        return usingPerformanceCounters ? result.withPerformanceCounters() : result;
+    }
+}
@@ -0,0 +1,120 @@
+package nl.jqno.equalsverifier;
+
+import nl.jqno.equalsverifier.internal.util.Counters;
+
+/**
+ * Counts what {@link EqualsVerifier} did while it verified a class.
+ *
+ * Only available when the verification was configured with
+ * {@link EqualsVerifierApi#withPerformanceCounters()}. The counters make it
+ * possible to find classes that are unusually expensive to verify, and to see
+ * whether caches take effect: values that were cached by an earlier
+ * verification are not created again.
+ */
+public final class PerformanceCounters {
+    private final long prefabValueHits;
+    private final long prefabValueMisses;
+    private final long instantiations;
+    private final long dynamicSubclasses;
+    private final long fieldReads;
+    private final long fieldWrites;
+    private final long equalsInvocations;
+    private final long hashCodeInvocations;
+    private final long allocatedBytes;
+
+    /**
+     * Constructor, only to be called by {@link EqualsVerifierApi#report()}.
+     */
+    /* package protected */ PerformanceCounters(Counters counters) {
+        this.prefabValueHits = counters.getPrefabValueHits();
+        this.prefabValueMisses = counters.getPrefabValueMisses();
+        this.instantiations = counters.getInstantiations();
+        this.dynamicSubclasses = counters.getDynamicSubclasses();
+        this.fieldReads = counters.getFieldReads();
+        this.fieldWrites = counters.getFieldWrites();
+        this.equalsInvocations = counters.getEqualsInvocations();
+        this.hashCodeInvocations = counters.getHashCodeInvocations();
+        this.allocatedBytes = counters.getAllocatedBytes();
+    }
+
+    /**
+     * @return How often prefab values for a type were found in the cache.
+     */
+    public long getPrefabValueHits() {
+        return prefabValueHits;
+    }
+
+    /**
+     * @return How often prefab values for a type had to be created.
+     */
+    public long getPrefabValueMisses() {
+        return prefabValueMisses;
+    }
+
+    /**
+     * @return How many objects were instantiated without calling a
+     *          constructor.
+     */
+    public long getInstantiations() {
+        return instantiations;
+    }
+
+    /**
+     * @return How many dynamic subclasses were generated. Dynamic subclasses
+     *          are shared by all verifications, so this is 0 if they were
+     *          all generated by earlier verifications.
+     */
+    public long getDynamicSubclasses() {
+        return dynamicSubclasses;
+    }
+
+    /**
+     * @return How many fields were read reflectively.
+     */
+    public long getFieldReads() {
+        return fieldReads;
+    }
+
+    /**
+     * @return How many fields were written reflectively.
+     */
+    public long getFieldWrites() {
+        return fieldWrites;
+    }
+
+    /**
+     * @return How often {@code equals} was called on instances of the class
+     *          under test.
+     */
+    public long getEqualsInvocations() {
+        return equalsInvocations;
+    }
+
+    /**
+     * @return How often {@code hashCode} was called on instances of the
+     *          class under test.
+     */
+    public long getHashCodeInvocations() {
+        return hashCodeInvocations;
+    }
+
+    /**
+     * @return How many bytes were allocated on the thread that performed the
+     *          verification, or -1 if the JVM can't measure that.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "PerformanceCounters[prefabValueHits=" + prefabValueHits + ", prefabValueMisses=" + prefabValueMisses +
+                ", instantiations=" + instantiations + ", dynamicSubclasses=" + dynamicSubclasses +
+                ", fieldReads=" + fieldReads + ", fieldWrites=" + fieldWrites +
+                ", equalsInvocations=" + equalsInvocations + ", hashCodeInvocations=" + hashCodeInvocations +
+                ", allocatedBytes=" + allocatedBytes + "]";
+    }
+}
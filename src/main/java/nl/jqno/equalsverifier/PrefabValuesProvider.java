@@ -0,0 +1,27 @@
+package nl.jqno.equalsverifier;
+
+/**
+ * Provides prefabricated values to every verification in the JVM, so they
+ * don't have to be added to each one with {@code withPrefabValues} or
+ * {@code withGenericPrefabValues}.
+ *
+ * Implementations are found with {@link java.util.ServiceLoader}, through the
+ * thread's context ClassLoader, the first time EqualsVerifier needs prefab
+ * values in that ClassLoader. To register one, list its fully
+ * qualified name in a resource called
+ * {@code META-INF/services/nl.jqno.equalsverifier.PrefabValuesProvider} on
+ * the test classpath. Implementations must have a public no-argument
+ * constructor.
+ *
+ * Prefab values that are added to a verification directly take precedence
+ * over the ones from a provider.
+ */
+public interface PrefabValuesProvider {
+    /**
+     * Adds prefab values to the given registry. Called once per context
+     * ClassLoader.
+     *
+     * @param registry The registry to add prefab values to.
+     */
+    void addPrefabValues(PrefabValuesRegistry registry);
+}
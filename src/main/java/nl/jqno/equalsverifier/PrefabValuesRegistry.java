@@ -0,0 +1,54 @@
+package nl.jqno.equalsverifier;
+
+import nl.jqno.equalsverifier.Func.Func1;
+import nl.jqno.equalsverifier.Func.Func2;
+
+/**
+ * Receives the prefab values of a {@link PrefabValuesProvider}.
+ */
+public interface PrefabValuesRegistry {
+    /**
+     * Adds prefabricated values for instance fields of classes that
+     * EqualsVerifier cannot instantiate by itself.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param red An instance of {@code S}.
+     * @param black Another instance of {@code S}, not equal to {@code red}.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If either {@code otherType}, {@code red},
+     *          or {@code black} is null.
+     * @throws IllegalStateException If {@code red} equals {@code black}.
+     */
+    <S> PrefabValuesRegistry withPrefabValues(Class<S> otherType, S red, S black);
+
+    /**
+     * Adds a factory to generate prefabricated values for instance fields of
+     * classes with 1 generic type parameter that EqualsVerifier cannot
+     * instantiate by itself.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param factory A factory to generate an instance of {@code S}, given a
+     *          value of its generic type parameter.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException if either {@code otherType} or
+     *          {@code factory} is null.
+     */
+    <S> PrefabValuesRegistry withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory);
+
+    /**
+     * Adds a factory to generate prefabricated values for instance fields of
+     * classes with 2 generic type parameters that EqualsVerifier cannot
+     * instantiate by itself.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param factory A factory to generate an instance of {@code S}, given a
+     *          value of each of its generic type parameters.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException if either {@code otherType} or
+     *          {@code factory} is null.
+     */
+    <S> PrefabValuesRegistry withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory);
+}
@@ -0,0 +1,80 @@
+package nl.jqno.equalsverifier;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedPrefabValues;
+
+/**
+ * Counts how well the JVM-wide prefab value cache works, for all
+ * verifications that opted in with {@code usingSharedPrefabValueCache()}.
+ *
+ * Obtained from {@link EqualsVerifier#sharedPrefabValueCacheStatistics()}.
+ * The counts are a snapshot, taken since the JVM started. If a verification
+ * rarely gets a hit, the verifications probably don't share their prefab
+ * values; see {@link EqualsVerifierApi#usingSharedPrefabValueCache()} for
+ * when they do.
+ */
+public final class SharedPrefabValueCacheStatistics {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long valueHits;
+    private final long valueMisses;
+
+    /**
+     * Constructor, only to be called by
+     * {@link EqualsVerifier#sharedPrefabValueCacheStatistics()}.
+     */
+    /* package protected */ SharedPrefabValueCacheStatistics(SharedPrefabValues.Statistics statistics) {
+        this.hits = statistics.getHits();
+        this.misses = statistics.getMisses();
+        this.evictions = statistics.getEvictions();
+        this.valueHits = statistics.getValueHits();
+        this.valueMisses = statistics.getValueMisses();
+    }
+
+    /**
+     * @return How often a verification could reuse the prefab values of an
+     *          earlier verification.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return How often a verification needed new prefab values.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return How often the prefab values of a configuration were evicted,
+     *          because too many different configurations were used.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return How often a value for a type was found in the shared prefab
+     *          values.
+     */
+    public long getValueHits() {
+        return valueHits;
+    }
+
+    /**
+     * @return How often a value for a type had to be created.
+     */
+    public long getValueMisses() {
+        return valueMisses;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "SharedPrefabValueCacheStatistics[hits=" + hits + ", misses=" + misses +
+                ", evictions=" + evictions + ", valueHits=" + valueHits + ", valueMisses=" + valueMisses + "]";
+    }
+}
@@ -0,0 +1,191 @@
+package nl.jqno.equalsverifier;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@link VerificationListener} that writes the verification of each class,
+ * and each of its phases, as a span in a trace file.
+ *
+ * The file uses the Trace Event Format, so it can be opened in
+ * {@code chrome://tracing} or in Perfetto. Each thread that verifies classes
+ * gets its own track, which makes it easy to spot classes that take much
+ * longer than others, and threads that are idle when verifying classes in
+ * parallel:
+ *
+ * <pre>
+ * try (TraceEventWriter trace = new TraceEventWriter(Paths.get("equalsverifier.json"))) {
+ *     EqualsVerifier.forPackage("com.example")
+ *         .withVerificationListener(trace)
+ *         .inParallel()
+ *         .verify();
+ * }
+ * </pre>
+ *
+ * Each thread collects its events in its own buffer, so threads that verify
+ * classes in parallel don't have to wait for each other. A thread writes its
+ * buffer, and flushes the writer, when it finishes verifying a class. If the
+ * file isn't closed, for instance because the JVM crashes, the trace viewers
+ * can still open it, and it contains every class that was verified
+ * completely.
+ *
+ * The checks on individual fields are not written, to keep the file small.
+ */
+public final class TraceEventWriter implements VerificationListener, Closeable {
+    private static final long PID = 1;
+
+    private final Writer writer;
+    private final long origin = System.nanoTime();
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(TraceEventWriter::newBuffer);
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param file The file to write the trace to. Is overwritten if it
+     *          already exists.
+     * @throws IOException If the file can't be opened.
+     */
+    public TraceEventWriter(Path file) throws IOException {
+        this(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param writer The writer to write the trace to. Is closed when this
+     *          TraceEventWriter is closed.
+     */
+    public TraceEventWriter(Writer writer) {
+        this.writer = writer;
+        write("[\n{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":" + PID + ",\"args\":{\"name\":\"EqualsVerifier\"}}");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void verificationStarted(Class<?> type) {
+        event("B", type.getSimpleName(), "verification", "{\"class\":" + quote(type.getName()) + "}");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void verificationFinished(Class<?> type, long durationNanos, boolean successful) {
+        event("E", type.getSimpleName(), "verification", "{\"successful\":" + successful + "}");
+        flushBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void phaseStarted(Class<?> type, String phase) {
+        event("B", phase, "phase", "{}");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void phaseFinished(Class<?> type, String phase, long durationNanos) {
+        event("E", phase, "phase", "{}");
+    }
+
+    /**
+     * Writes the events of the calling thread, finishes the trace and closes
+     * the underlying writer. Events that other threads haven't written yet,
+     * and events that are sent afterwards, are ignored.
+     *
+     * @throws IOException If the writer can't be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            writer.write(takeBuffer());
+            writer.write("\n]\n");
+        }
+        finally {
+            closed = true;
+            writer.close();
+        }
+    }
+
+    private void event(String phase, String name, String category, String args) {
+        if (closed) {
+            return;
+        }
+
+        long ts = (System.nanoTime() - origin) / 1000;
+        long tid = Thread.currentThread().getId();
+        buffers.get().append(",\n{\"name\":").append(quote(name)).append(",\"cat\":\"").append(category)
+                .append("\",\"ph\":\"").append(phase).append("\",\"ts\":").append(ts)
+                .append(",\"pid\":").append(PID).append(",\"tid\":").append(tid).append(",\"args\":").append(args).append('}');
+    }
+
+    private void flushBuffer() {
+        String events = takeBuffer();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            write(events);
+            try {
+                writer.flush();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private String takeBuffer() {
+        StringBuilder buffer = buffers.get();
+        String result = buffer.toString();
+        buffer.setLength(0);
+        return result;
+    }
+
+    private static StringBuilder newBuffer() {
+        Thread thread = Thread.currentThread();
+        return new StringBuilder(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":" + PID + ",\"tid\":" + thread.getId() +
+                ",\"args\":{\"name\":" + quote(thread.getName()) + "}}");
+    }
+
+    private void write(String s) {
+        try {
+            writer.write(s);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String quote(String s) {
+        StringBuilder result = new StringBuilder(s.length() + 2);
+        result.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                result.append('\\').append(c);
+            }
+            else if (c < 0x20) {
+                result.append(String.format("\\u%04x", (int)c));
+            }
+            else {
+                result.append(c);
+            }
+        }
+        return result.append('"').toString();
+    }
+}
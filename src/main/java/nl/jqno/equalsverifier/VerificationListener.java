@@ -0,0 +1,99 @@
+package nl.jqno.equalsverifier;
+
+/**
+ * Receives timing events while {@link EqualsVerifier} verifies a class.
+ *
+ * A verification consists of several phases, which are reported in this
+ * order:
+ * <ul>
+ *     <li>{@value #CONFIGURATION}, in which the configuration is built;
+ *     this phase contains the {@value #ANNOTATIONS} phase, in which the class
+ *     is scanned for annotations;</li>
+ *     <li>one phase for each of the checks that {@code EqualsVerifier}
+ *     performs, named after the check, such as {@code SignatureChecker} or
+ *     {@code FieldsChecker}.</li>
+ * </ul>
+ *
+ * Within a phase, the checks on individual fields are reported as well.
+ *
+ * All methods do nothing by default, so implementations only need to
+ * override the events they are interested in. All durations are measured
+ * with {@link System#nanoTime()}. Events are sent on the thread that performs
+ * the verification; when classes are verified in parallel, the listener must
+ * be thread-safe.
+ *
+ * If a listener throws an exception from a {@code ...Finished} method, the
+ * other listeners still receive the event. If the verification or phase has
+ * failed, the listener's exception is added to that failure as a suppressed
+ * exception. Otherwise, it fails the verification once all listeners have
+ * received the event.
+ *
+ * When no listener is registered, {@code EqualsVerifier} doesn't measure
+ * anything.
+ */
+public interface VerificationListener {
+    /**
+     * The name of the phase in which the configuration is built.
+     */
+    String CONFIGURATION = "configuration";
+
+    /**
+     * The name of the phase in which the class under test is scanned for
+     * annotations.
+     */
+    String ANNOTATIONS = "annotations";
+
+    /**
+     * Called before the verification of a class starts.
+     *
+     * @param type The class under test.
+     */
+    default void verificationStarted(Class<?> type) {}
+
+    /**
+     * Called after the verification of a class has finished.
+     *
+     * @param type The class under test.
+     * @param durationNanos The duration of the verification, in nanoseconds.
+     * @param successful Whether the class passed the verification.
+     */
+    default void verificationFinished(Class<?> type, long durationNanos, boolean successful) {}
+
+    /**
+     * Called before a phase of a verification starts.
+     *
+     * @param type The class under test.
+     * @param phase The name of the phase.
+     */
+    default void phaseStarted(Class<?> type, String phase) {}
+
+    /**
+     * Called after a phase of a verification has finished, also when the
+     * phase found a problem.
+     *
+     * @param type The class under test.
+     * @param phase The name of the phase.
+     * @param durationNanos The duration of the phase, in nanoseconds.
+     */
+    default void phaseFinished(Class<?> type, String phase, long durationNanos) {}
+
+    /**
+     * Called before a check is performed on a field.
+     *
+     * @param type The class under test.
+     * @param check The name of the check.
+     * @param field The name of the field.
+     */
+    default void fieldCheckStarted(Class<?> type, String check, String field) {}
+
+    /**
+     * Called after a check was performed on a field, also when the check
+     * found a problem.
+     *
+     * @param type The class under test.
+     * @param check The name of the check.
+     * @param field The name of the field.
+     * @param durationNanos The duration of the check, in nanoseconds.
+     */
+    default void fieldCheckFinished(Class<?> type, String check, String field, long durationNanos) {}
+}
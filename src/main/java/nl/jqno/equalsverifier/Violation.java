@@ -0,0 +1,70 @@
+package nl.jqno.equalsverifier;
+
+/**
+ * A single problem that {@link EqualsVerifier} found in a class.
+ *
+ * Normally, {@link EqualsVerifier} stops at the first problem. If the
+ * verification was configured with
+ * {@link EqualsVerifierApi#collectingAllViolations()}, it continues with the
+ * next check instead, and {@link EqualsVerifierReport#getViolations()}
+ * contains a Violation for each check that failed.
+ */
+public final class Violation {
+    private final String check;
+    private final String field;
+    private final String message;
+    private final Throwable cause;
+
+    /**
+     * Constructor, only to be called by {@link EqualsVerifierApi#report()}.
+     */
+    /* package protected */ Violation(String check, String field, String message, Throwable cause) {
+        this.check = check;
+        this.field = field;
+        this.message = message;
+        this.cause = cause;
+    }
+
+    /**
+     * @return the name of the check that failed, such as
+     *          {@code SignificantFieldCheck}; or null if the check isn't
+     *          known. It is only known when the verification was configured
+     *          with {@link EqualsVerifierApi#collectingAllViolations()}, and
+     *          the problem didn't prevent the verification from continuing.
+     */
+    public String getCheck() {
+        return check;
+    }
+
+    /**
+     * @return the name of the field on which the check failed; or null if the
+     *          check isn't about a single field.
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * @return a description of the problem. This is the part of
+     *          {@link EqualsVerifierReport#getMessage()} that is specific to
+     *          this problem.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return the exception that signalled the problem.
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Violation[check=" + check + ", field=" + field + ", message=" + message + "]";
+    }
+}
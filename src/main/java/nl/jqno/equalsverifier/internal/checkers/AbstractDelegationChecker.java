@@ -13,6 +13,7 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 import java.lang.reflect.Field;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
 public class AbstractDelegationChecker<T> implements Checker {
     private final Class<T> type;
@@ -93,7 +94,7 @@ public class AbstractDelegationChecker<T> implements Checker {
     @SuppressFBWarnings(value = "DE_MIGHT_IGNORE", justification = "These exceptions will re-occur and be handled later.")
     private <S> void checkAbstractMethods(Class<?> instanceClass, S instance, S copy, boolean prefabPossible) {
         try {
-            instance.equals(copy);
+            callEquals(instance, copy, prefabPossible);
         }
         catch (AbstractMethodError e) {
             fail(buildAbstractDelegationErrorMessage(instanceClass, prefabPossible, "equals", e.getMessage()), e);
@@ -104,7 +105,7 @@ public class AbstractDelegationChecker<T> implements Checker {
         }
 
         try {
-            cachedHashCodeInitializer.getInitializedHashCode(instance);
+            callHashCode(instance, prefabPossible);
         }
         catch (AbstractMethodError e) {
             fail(buildAbstractDelegationErrorMessage(instanceClass, prefabPossible, "hashCode", e.getMessage()), e);
@@ -115,6 +116,15 @@ public class AbstractDelegationChecker<T> implements Checker {
         }
     }
 
+    // Field values aren't counted as invocations on the class under test.
+    private boolean callEquals(Object instance, Object copy, boolean isFieldValue) {
+        return isFieldValue ? instance.equals(copy) : invokeEquals(instance, copy);
+    }
+
+    private int callHashCode(Object instance, boolean isFieldValue) {
+        return isFieldValue ? instance.hashCode() : cachedHashCodeInitializer.getInitializedHashCode(instance);
+    }
+
     private Formatter buildAbstractDelegationErrorMessage(Class<?> c, boolean prefabPossible, String method, String originalMessage) {
         Formatter prefabFormatter = Formatter.of("\nAdd prefab values for %%.", c.getName());
 
@@ -8,6 +8,7 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 import java.util.EnumSet;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.*;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeHashCode;
 
 public class CachedHashCodeChecker<T> implements Checker {
     private final CachedHashCodeInitializer<T> cachedHashCodeInitializer;
@@ -37,7 +38,7 @@ public class CachedHashCodeChecker<T> implements Checker {
             if (reference == null) {
                 fail(Formatter.of("Cached hashCode: example cannot be null."));
             }
-            int actualHashCode = reference.hashCode();
+            int actualHashCode = invokeHashCode(reference);
             int recomputedHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
 
             assertEquals(Formatter.of("Cached hashCode: hashCode is not properly initialized."), actualHashCode, recomputedHashCode);
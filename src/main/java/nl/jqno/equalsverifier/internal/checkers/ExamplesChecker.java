@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Objects;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.*;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
 public class ExamplesChecker<T> implements Checker {
     private final Class<T> type;
@@ -60,7 +61,7 @@ public class ExamplesChecker<T> implements Checker {
         assertFalse(Formatter.of("Precondition: two identical objects appear:\n  %%", reference),
                 isIdentical(reference, other));
         assertTrue(Formatter.of("Precondition: not all equal objects are equal:\n  %%\nand\n  %%", reference, other),
-                reference.equals(other));
+                invokeEquals(reference, other));
     }
 
     private void checkSingle(T reference) {
@@ -74,8 +75,8 @@ public class ExamplesChecker<T> implements Checker {
 
     private void checkReflexivity(T reference) {
         try {
-            assertEquals(Formatter.of("Reflexivity: object does not equal itself:\n  %%", reference),
-                reference, reference);
+            assertTrue(Formatter.of("Reflexivity: object does not equal itself:\n  %%", reference),
+                invokeEquals(reference, reference));
         }
         catch (ClassCastException e) {
             fail(Formatter.of(
@@ -87,7 +88,7 @@ public class ExamplesChecker<T> implements Checker {
     @SuppressFBWarnings(value = "EC_NULL_ARG", justification = "Check what happens when null is passed into equals.")
     private void checkNonNullity(T reference) {
         try {
-            boolean nullity = reference.equals(null);
+            boolean nullity = invokeEquals(reference, null);
             assertFalse(Formatter.of("Non-nullity: true returned for null value"), nullity);
         }
         catch (NullPointerException e) {
@@ -100,7 +101,7 @@ public class ExamplesChecker<T> implements Checker {
         SomethingElse somethingElse = new SomethingElse();
         try {
             assertFalse(Formatter.of("Type-check: equals returns true for an unrelated type.\nAdd an instanceof or getClass() check."),
-                    reference.equals(somethingElse));
+                    invokeEquals(reference, somethingElse));
         }
         catch (AssertionException e) {
             throw e;
@@ -118,7 +119,7 @@ public class ExamplesChecker<T> implements Checker {
         assertEquals(Formatter.of("hashCode: hashCode should be consistent:\n  %% (%%)", reference, referenceHashCode),
                 referenceHashCode, cachedHashCodeInitializer.getInitializedHashCode(reference));
 
-        if (!reference.equals(copy)) {
+        if (!invokeEquals(reference, copy)) {
             return;
         }
 
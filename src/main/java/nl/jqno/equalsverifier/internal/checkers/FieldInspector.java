@@ -3,38 +3,125 @@ package nl.jqno.equalsverifier.internal.checkers;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
-import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.util.Instrumentation;
+import nl.jqno.equalsverifier.internal.util.ViolationCollector;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 public class FieldInspector<T> {
     private final ClassAccessor<T> classAccessor;
     private final TypeTag typeTag;
+    private final Instrumentation instrumentation;
+    private final ViolationCollector violationCollector;
 
     public FieldInspector(ClassAccessor<T> classAccessor, TypeTag typeTag) {
+        this(classAccessor, typeTag, Instrumentation.NONE, ViolationCollector.NONE);
+    }
+
+    public FieldInspector(ClassAccessor<T> classAccessor, TypeTag typeTag, Instrumentation instrumentation,
+            ViolationCollector violationCollector) {
         this.classAccessor = classAccessor;
         this.typeTag = typeTag;
+        this.instrumentation = instrumentation;
+        this.violationCollector = violationCollector;
     }
 
     public void check(FieldCheck check) {
-        for (Field field : FieldIterable.of(classAccessor.getType())) {
-            ObjectAccessor<T> reference = classAccessor.getRedAccessor(typeTag);
-            ObjectAccessor<T> changed = classAccessor.getRedAccessor(typeTag);
+        check(Collections.singletonList(check));
+    }
 
-            check.execute(reference.fieldAccessorFor(field), changed.fieldAccessorFor(field));
+    /**
+     * Runs all given checks on a field before moving on to the next field.
+     *
+     * The same two instances are used for all checks; before each check,
+     * they are restored to the red instance.
+     *
+     * If a check fails, the failure that is reported is the same as when each
+     * check would run on all fields before the next check starts: the earlier
+     * checks are first run on the remaining fields, and if one of them fails,
+     * that failure is reported instead.
+     *
+     * @param checks The checks to run, in order.
+     */
+    public void check(List<FieldCheck> checks) {
+        ObjectAccessor<T> prototype = classAccessor.getRedAccessor(typeTag);
+        T reference = prototype.copy();
+        T changed = prototype.copy();
+        List<FieldAccessor> referenceFields = ObjectAccessor.of(reference, classAccessor.getType()).fieldAccessors();
+        List<FieldAccessor> changedFields = ObjectAccessor.of(changed, classAccessor.getType()).fieldAccessors();
+
+        for (int i = 0; i < referenceFields.size(); i++) {
+            FieldAccessor referenceField = referenceFields.get(i);
+            FieldAccessor changedField = changedFields.get(i);
+            for (int j = 0; j < checks.size(); j++) {
+                prototype.copyInto(reference);
+                prototype.copyInto(changed);
+                try {
+                    execute(checks.get(j), referenceField.getField(), referenceField, changedField);
+                }
+                catch (RuntimeException | Error e) {
+                    int next = i + 1;
+                    checkRemainingFields(checks.subList(0, j), prototype, reference, changed,
+                        referenceFields.subList(next, referenceFields.size()), changedFields.subList(next, changedFields.size()));
+                    throw e;
+                }
+            }
         }
     }
 
+    private void checkRemainingFields(List<FieldCheck> checks, ObjectAccessor<T> prototype, T reference, T changed,
+            List<FieldAccessor> referenceFields, List<FieldAccessor> changedFields) {
+        for (FieldCheck check : checks) {
+            for (int i = 0; i < referenceFields.size(); i++) {
+                FieldAccessor referenceField = referenceFields.get(i);
+                FieldAccessor changedField = changedFields.get(i);
+                prototype.copyInto(reference);
+                prototype.copyInto(changed);
+                execute(check, referenceField.getField(), referenceField, changedField);
+            }
+        }
+    }
+
+    /**
+     * Runs the given check on each field, on instances whose fields have
+     * their default values, except the given fields, which are not null.
+     *
+     * The same two instances are used for all fields; before each field,
+     * they are restored to the prototype with the default values.
+     *
+     * @param nonnullFields Fields which are not allowed to be set to null.
+     * @param annotationCache To check for any NonNull annotations.
+     * @param check The check to run.
+     */
     public void checkWithNull(Set<String> nonnullFields, AnnotationCache annotationCache, FieldCheck check) {
-        for (Field field : FieldIterable.of(classAccessor.getType())) {
-            ObjectAccessor<T> reference = classAccessor.getDefaultValuesAccessor(typeTag, nonnullFields, annotationCache);
-            ObjectAccessor<T> changed = classAccessor.getDefaultValuesAccessor(typeTag, nonnullFields, annotationCache);
+        ObjectAccessor<T> prototype = classAccessor.getDefaultValuesAccessor(typeTag, nonnullFields, annotationCache);
+        T reference = prototype.copy();
+        T changed = prototype.copy();
+        List<FieldAccessor> referenceFields = ObjectAccessor.of(reference, classAccessor.getType()).fieldAccessors();
+        List<FieldAccessor> changedFields = ObjectAccessor.of(changed, classAccessor.getType()).fieldAccessors();
 
-            check.execute(reference.fieldAccessorFor(field), changed.fieldAccessorFor(field));
+        for (int i = 0; i < referenceFields.size(); i++) {
+            prototype.copyInto(reference);
+            prototype.copyInto(changed);
+            execute(check, referenceFields.get(i).getField(), referenceFields.get(i), changedFields.get(i));
         }
     }
 
+    private void execute(FieldCheck check, Field field, FieldAccessor referenceField, FieldAccessor changedField) {
+        if (!instrumentation.isEnabled() && !violationCollector.isCollecting()) {
+            check.execute(referenceField, changedField);
+            return;
+        }
+
+        String name = check.getClass().getSimpleName();
+        violationCollector.run(name, field,
+            () -> instrumentation.fieldCheck(name, field.getName(), () -> check.execute(referenceField, changedField)));
+    }
+
 }
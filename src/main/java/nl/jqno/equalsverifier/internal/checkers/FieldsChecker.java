@@ -10,6 +10,8 @@ import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
 import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
 import nl.jqno.equalsverifier.internal.util.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 public class FieldsChecker<T> implements Checker {
@@ -22,7 +24,6 @@ public class FieldsChecker<T> implements Checker {
     private final SignificantFieldCheck<T> skippingSignificantFieldCheck;
     private final SymmetryFieldCheck symmetryFieldCheck;
     private final TransientFieldsCheck<T> transientFieldsCheck;
-    private final TransitivityFieldCheck transitivityFieldCheck;
 
     public FieldsChecker(Configuration<T> config) {
         this.config = config;
@@ -40,33 +41,41 @@ public class FieldsChecker<T> implements Checker {
         this.skippingSignificantFieldCheck = new SignificantFieldCheck<>(config, isCachedHashCodeField, true);
         this.symmetryFieldCheck = new SymmetryFieldCheck(prefabValues, typeTag);
         this.transientFieldsCheck = new TransientFieldsCheck<>(config);
-        this.transitivityFieldCheck = new TransitivityFieldCheck(prefabValues, typeTag);
     }
 
     @Override
     public void check() {
         ClassAccessor<T> classAccessor = config.getClassAccessor();
-        FieldInspector<T> inspector = new FieldInspector<>(classAccessor, config.getTypeTag());
 
+        List<FieldCheck> checks = new ArrayList<>();
         if (!classAccessor.isEqualsInheritedFromObject()) {
-            inspector.check(arrayFieldCheck);
-            inspector.check(floatAndDoubleFieldCheck);
-            inspector.check(reflexivityFieldCheck);
+            checks.add(arrayFieldCheck);
+            checks.add(floatAndDoubleFieldCheck);
+            checks.add(reflexivityFieldCheck);
         }
 
         if (!ignoreMutability(config.getType())) {
-            inspector.check(mutableStateFieldCheck);
+            checks.add(mutableStateFieldCheck);
         }
 
         if (!config.getWarningsToSuppress().contains(Warning.TRANSIENT_FIELDS)) {
-            inspector.check(transientFieldsCheck);
+            checks.add(transientFieldsCheck);
         }
 
-        inspector.check(significantFieldCheck);
-        inspector.check(symmetryFieldCheck);
-        inspector.check(transitivityFieldCheck);
+        checks.add(significantFieldCheck);
+        checks.add(symmetryFieldCheck);
+        // Built here rather than in the constructor, because it creates its
+        // template instance right away.
+        checks.add(new TransitivityFieldCheck<>(config));
 
-        if (!config.getWarningsToSuppress().contains(Warning.NULL_FIELDS)) {
+        FieldInspector<T> inspector = new FieldInspector<>(classAccessor, config.getTypeTag(), config.getInstrumentation(),
+            config.getViolationCollector());
+        inspector.check(checks);
+
+        // checkWithNull sets all fields to null at the same time, so it only
+        // works if equals can handle a null value in each of them.
+        boolean nullsHandled = !config.getViolationCollector().hasFailed(NullPointerExceptionFieldCheck.class.getSimpleName());
+        if (!config.getWarningsToSuppress().contains(Warning.NULL_FIELDS) && nullsHandled) {
             inspector.checkWithNull(config.getNonnullFields(), config.getAnnotationCache(), skippingSignificantFieldCheck);
         }
     }
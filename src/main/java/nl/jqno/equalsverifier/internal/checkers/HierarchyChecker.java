@@ -14,6 +14,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.*;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
 public class HierarchyChecker<T> implements Checker {
     private final Configuration<T> config;
@@ -62,7 +63,7 @@ public class HierarchyChecker<T> implements Checker {
             Formatter formatter = Formatter.of("Redefined superclass:\n  %%\nshould not equal superclass instance\n  %%\nbut it does.",
                     reference, equalSuper);
             try {
-                assertFalse(formatter, reference.equals(equalSuper) || equalSuper.equals(reference));
+                assertFalse(formatter, invokeEquals(reference, equalSuper) || invokeEquals(equalSuper, reference));
             }
             catch (AbstractMethodError ignored) {
                 // In this case, we'll assume all super properties hold.
@@ -93,12 +94,13 @@ public class HierarchyChecker<T> implements Checker {
 
     private void checkSuperProperties(T reference, Object equalSuper, T shallow) {
         Formatter symmetryFormatter = Formatter.of("Symmetry:\n  %%\ndoes not equal superclass instance\n  %%", reference, equalSuper);
-        assertTrue(symmetryFormatter, reference.equals(equalSuper) && equalSuper.equals(reference));
+        assertTrue(symmetryFormatter, invokeEquals(reference, equalSuper) && invokeEquals(equalSuper, reference));
 
         Formatter transitivityFormatter = Formatter.of(
                 "Transitivity:\n  %%\nand\n  %%\nboth equal superclass instance\n  %%\nwhich implies they equal each other.",
                 reference, shallow, equalSuper);
-        assertTrue(transitivityFormatter, reference.equals(shallow) || reference.equals(equalSuper) != equalSuper.equals(shallow));
+        assertTrue(transitivityFormatter,
+                invokeEquals(reference, shallow) || invokeEquals(reference, equalSuper) != invokeEquals(equalSuper, shallow));
 
         int referenceHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
         int equalSuperHashCode = cachedHashCodeInitializer.getInitializedHashCode(equalSuper);
@@ -126,14 +128,14 @@ public class HierarchyChecker<T> implements Checker {
                     "Subclass: object is equal to an instance of a trivial subclass with equal fields:" +
                     "\n  %%\nThis should not happen when using getClass().",
                     reference);
-            assertFalse(formatter, reference.equals(equalSub));
+            assertFalse(formatter, invokeEquals(reference, equalSub));
         }
         else {
             Formatter formatter = Formatter.of(
                     "Subclass: object is not equal to an instance of a trivial subclass with equal fields:\n  %%\n" +
                             "Maybe you forgot to add usingGetClass(). Otherwise, consider making the class final.",
                     reference);
-            assertTrue(formatter, reference.equals(equalSub));
+            assertTrue(formatter, invokeEquals(reference, equalSub));
         }
     }
 
@@ -150,7 +152,7 @@ public class HierarchyChecker<T> implements Checker {
         T reference = referenceAccessor.get();
         T redefinedSub = referenceAccessor.copyIntoSubclass(redefinedSubclass);
         assertFalse(Formatter.of("Subclass:\n  %%\nequals subclass instance\n  %%", reference, redefinedSub),
-                reference.equals(redefinedSub));
+                invokeEquals(reference, redefinedSub));
     }
 
     private void checkFinalEqualsMethod() {
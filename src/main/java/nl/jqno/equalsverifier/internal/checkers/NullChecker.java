@@ -19,7 +19,8 @@ public class NullChecker<T> implements Checker {
         }
 
         ClassAccessor<T> classAccessor = config.getClassAccessor();
-        FieldInspector<T> inspector = new FieldInspector<>(classAccessor, config.getTypeTag());
+        FieldInspector<T> inspector = new FieldInspector<>(classAccessor, config.getTypeTag(), config.getInstrumentation(),
+            config.getViolationCollector());
         inspector.check(new NullPointerExceptionFieldCheck<>(config));
     }
 }
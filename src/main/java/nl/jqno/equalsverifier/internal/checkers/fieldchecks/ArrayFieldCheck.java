@@ -7,6 +7,8 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 import java.lang.reflect.Array;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertEquals;
+import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
 public class ArrayFieldCheck<T> implements FieldCheck {
     private CachedHashCodeInitializer<T> cachedHashCodeInitializer;
@@ -65,7 +67,7 @@ public class ArrayFieldCheck<T> implements FieldCheck {
         Formatter eqEqFormatter = Formatter.of(
                 "Multidimensional array: ==, regular equals() or Arrays.equals() used instead of Arrays.deepEquals() for field %%.",
                 fieldName);
-        assertEquals(eqEqFormatter, reference, changed);
+        assertTrue(eqEqFormatter, invokeEquals(reference, changed));
 
         Formatter regularFormatter = Formatter.of(
                 "Multidimensional array: regular hashCode() or Arrays.hashCode() used instead of Arrays.deepHashCode() for field %%.",
@@ -75,8 +77,8 @@ public class ArrayFieldCheck<T> implements FieldCheck {
     }
 
     private void assertArray(String fieldName, Object reference, Object changed) {
-        assertEquals(Formatter.of("Array: == or regular equals() used instead of Arrays.equals() for field %%.", fieldName),
-                reference, changed);
+        assertTrue(Formatter.of("Array: == or regular equals() used instead of Arrays.equals() for field %%.", fieldName),
+                invokeEquals(reference, changed));
         assertEquals(Formatter.of("Array: regular hashCode() used instead of Arrays.hashCode() for field %%.", fieldName),
                 cachedHashCodeInitializer.getInitializedHashCode(reference), cachedHashCodeInitializer.getInitializedHashCode(changed));
     }
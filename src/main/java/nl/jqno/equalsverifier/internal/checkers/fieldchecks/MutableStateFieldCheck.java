@@ -8,6 +8,7 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 import java.util.function.Predicate;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
 public class MutableStateFieldCheck implements FieldCheck {
     private final PrefabValues prefabValues;
@@ -31,7 +32,7 @@ public class MutableStateFieldCheck implements FieldCheck {
 
         changedAccessor.changeField(prefabValues, typeTag);
 
-        boolean equalsChanged = !reference.equals(changed);
+        boolean equalsChanged = !invokeEquals(reference, changed);
 
         if (equalsChanged && !referenceAccessor.fieldIsFinal()) {
             fail(Formatter.of("Mutability: equals depends on mutable field %%.", referenceAccessor.getFieldName()));
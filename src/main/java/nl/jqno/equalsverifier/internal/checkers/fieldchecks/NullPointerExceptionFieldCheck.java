@@ -9,6 +9,7 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 import java.lang.reflect.Field;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
 @SuppressFBWarnings(value = "RV_RETURN_VALUE_IGNORED", justification = "We only want to see if it throws an exception.")
 public class NullPointerExceptionFieldCheck<T> implements FieldCheck {
@@ -45,8 +46,8 @@ public class NullPointerExceptionFieldCheck<T> implements FieldCheck {
     }
 
     private void performTests(Field field, final Object reference, final Object changed) {
-        handle("equals", field, () -> reference.equals(changed));
-        handle("equals", field, () -> changed.equals(reference));
+        handle("equals", field, () -> invokeEquals(reference, changed));
+        handle("equals", field, () -> invokeEquals(changed, reference));
         handle("hashCode", field, () -> config.getCachedHashCodeInitializer().getInitializedHashCode(changed));
     }
 
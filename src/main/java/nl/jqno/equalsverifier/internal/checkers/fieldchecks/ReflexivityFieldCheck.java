@@ -14,8 +14,9 @@ import java.lang.reflect.Field;
 import java.util.EnumSet;
 import java.util.Set;
 
-import static nl.jqno.equalsverifier.internal.util.Assert.assertEquals;
 import static nl.jqno.equalsverifier.internal.util.Assert.assertFalse;
+import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
 public class ReflexivityFieldCheck<T> implements FieldCheck {
     private final TypeTag typeTag;
@@ -77,7 +78,7 @@ public class ReflexivityFieldCheck<T> implements FieldCheck {
                 changedAccessor.getFieldName(), Warning.REFERENCE_EQUALITY.toString());
         Object left = referenceAccessor.getObject();
         Object right = changedAccessor.getObject();
-        assertEquals(f, left, right);
+        assertTrue(f, invokeEquals(left, right));
     }
 
     private void checkNullReflexivity(FieldAccessor referenceAccessor, FieldAccessor changedAccessor) {
@@ -98,12 +99,12 @@ public class ReflexivityFieldCheck<T> implements FieldCheck {
 
         if (warningsToSuppress.contains(Warning.IDENTICAL_COPY)) {
             assertFalse(Formatter.of("Unnecessary suppression: %%. Two identical copies are equal.", Warning.IDENTICAL_COPY.toString()),
-                    left.equals(right));
+                    invokeEquals(left, right));
         }
         else {
             Formatter f = Formatter.of("Reflexivity: object does not equal an identical copy of itself:\n  %%" +
                     "\nIf this is intentional, consider suppressing Warning.%%", left, Warning.IDENTICAL_COPY.toString());
-            assertEquals(f, left, right);
+            assertTrue(f, invokeEquals(left, right));
         }
     }
 }
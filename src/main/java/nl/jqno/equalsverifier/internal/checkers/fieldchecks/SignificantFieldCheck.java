@@ -16,6 +16,8 @@ import java.util.function.Predicate;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertFalse;
 import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeHashCode;
 
 public class SignificantFieldCheck<T> implements FieldCheck {
     private final Class<?> type;
@@ -51,11 +53,11 @@ public class SignificantFieldCheck<T> implements FieldCheck {
         Object changed = changedAccessor.getObject();
         String fieldName = referenceAccessor.getFieldName();
 
-        boolean equalToItself = reference.equals(changed);
+        boolean equalToItself = invokeEquals(reference, changed);
 
         changedAccessor.changeField(prefabValues, typeTag);
 
-        boolean equalsChanged = !reference.equals(changed);
+        boolean equalsChanged = !invokeEquals(reference, changed);
         boolean hashCodeChanged =
                 cachedHashCodeInitializer.getInitializedHashCode(reference) != cachedHashCodeInitializer.getInitializedHashCode(changed);
 
@@ -75,7 +77,7 @@ public class SignificantFieldCheck<T> implements FieldCheck {
                 Formatter formatter = Formatter.of(
                         "Significant fields: equals relies on %%, but hashCode does not." +
                         "\n  %% has hashCode %%\n  %% has hashCode %%",
-                        fieldName, reference, reference.hashCode(), changed, changed.hashCode());
+                        fieldName, reference, invokeHashCode(reference), changed, invokeHashCode(changed));
                 assertFalse(formatter, equalsChanged);
             }
             Formatter formatter = Formatter.of(
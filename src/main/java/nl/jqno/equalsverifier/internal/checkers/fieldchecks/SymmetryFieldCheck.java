@@ -6,6 +6,7 @@ import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
 import nl.jqno.equalsverifier.internal.util.Formatter;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
 public class SymmetryFieldCheck implements FieldCheck {
     private final PrefabValues prefabValues;
@@ -31,6 +32,6 @@ public class SymmetryFieldCheck implements FieldCheck {
         Object left = referenceAccessor.getObject();
         Object right = changedAccessor.getObject();
         assertTrue(Formatter.of("Symmetry: objects are not symmetric:\n  %%\nand\n  %%", left, right),
-                left.equals(right) == right.equals(left));
+                invokeEquals(left, right) == invokeEquals(right, left));
     }
 }
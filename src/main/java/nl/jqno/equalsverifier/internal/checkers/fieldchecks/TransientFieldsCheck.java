@@ -9,6 +9,7 @@ import nl.jqno.equalsverifier.internal.util.Configuration;
 import nl.jqno.equalsverifier.internal.util.Formatter;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
 public class TransientFieldsCheck<T> implements FieldCheck {
     private final PrefabValues prefabValues;
@@ -28,7 +29,7 @@ public class TransientFieldsCheck<T> implements FieldCheck {
 
         changedAccessor.changeField(prefabValues, typeTag);
 
-        boolean equalsChanged = !reference.equals(changed);
+        boolean equalsChanged = !invokeEquals(reference, changed);
         boolean fieldIsTransient = referenceAccessor.fieldIsTransient() ||
                 annotationCache.hasFieldAnnotation(typeTag.getType(), referenceAccessor.getFieldName(), SupportedAnnotations.TRANSIENT);
 
@@ -2,33 +2,49 @@ package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
-import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
+import nl.jqno.equalsverifier.internal.util.Configuration;
 import nl.jqno.equalsverifier.internal.util.Formatter;
 
-import java.lang.reflect.Field;
-
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.Invocations.invokeEquals;
 
-public class TransitivityFieldCheck implements FieldCheck {
+/**
+ * Checks transitivity with a1, a copy b1 of a1 in which the field under test
+ * has been changed, and a copy b2 of a1 in which all fields have been
+ * changed.
+ *
+ * Because b2 doesn't depend on the field under test, it is copied from a
+ * template that is built once, in the constructor, from the red instance of
+ * the class under test. The reference a1 must therefore be a red instance
+ * as well, which is what {@link
+ * nl.jqno.equalsverifier.internal.checkers.FieldInspector#check(java.util.List)}
+ * passes to each check.
+ *
+ * @param <T> The class under test.
+ */
+public class TransitivityFieldCheck<T> implements FieldCheck {
     private final PrefabValues prefabValues;
     private final TypeTag typeTag;
+    private final ObjectAccessor<T> b2Template;
 
-    public TransitivityFieldCheck(PrefabValues prefabValues, TypeTag typeTag) {
-        this.prefabValues = prefabValues;
-        this.typeTag = typeTag;
+    public TransitivityFieldCheck(Configuration<T> config) {
+        this.prefabValues = config.getPrefabValues();
+        this.typeTag = config.getTypeTag();
+        this.b2Template = buildB2Template(config.getClassAccessor());
     }
 
     @Override
     public void execute(FieldAccessor referenceAccessor, FieldAccessor changedAccessor) {
         Object a1 = referenceAccessor.getObject();
         Object b1 = buildB1(changedAccessor);
-        Object b2 = buildB2(a1, referenceAccessor.getField());
+        Object b2 = b2Template.copy();
 
-        boolean x = a1.equals(b1);
-        boolean y = b1.equals(b2);
-        boolean z = a1.equals(b2);
+        boolean x = invokeEquals(a1, b1);
+        boolean y = invokeEquals(b1, b2);
+        boolean z = invokeEquals(a1, b2);
 
         if (countFalses(x, y, z) == 1) {
             fail(Formatter.of(
@@ -43,16 +59,12 @@ public class TransitivityFieldCheck implements FieldCheck {
         return accessor.getObject();
     }
 
-    private Object buildB2(Object a1, Field referenceField) {
-        Object result = ObjectAccessor.of(a1).copy();
-        ObjectAccessor<?> objectAccessor = ObjectAccessor.of(result);
-        objectAccessor.fieldAccessorFor(referenceField).changeField(prefabValues, typeTag);
-        for (Field field : FieldIterable.of(result.getClass())) {
-            if (!field.equals(referenceField)) {
-                objectAccessor.fieldAccessorFor(field).changeField(prefabValues, typeTag);
-            }
+    private ObjectAccessor<T> buildB2Template(ClassAccessor<T> classAccessor) {
+        ObjectAccessor<T> template = ObjectAccessor.of(classAccessor.getRedAccessor(typeTag).copy());
+        for (FieldAccessor accessor : template.fieldAccessors()) {
+            accessor.changeField(prefabValues, typeTag);
         }
-        return result;
+        return template;
     }
 
     private int countFalses(boolean... bools) {
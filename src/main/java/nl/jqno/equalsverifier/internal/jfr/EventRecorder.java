@@ -0,0 +1,41 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+
+import java.util.function.Supplier;
+
+/**
+ * Records JDK Flight Recorder events for the things that EqualsVerifier
+ * spends its time on.
+ *
+ * Use {@link Jfr#recorder()} to get an instance.
+ */
+public interface EventRecorder {
+    /**
+     * @return A listener that records the verification of a class and its
+     *          phases, or null if those events are not enabled in any
+     *          recording.
+     */
+    VerificationListener verificationListener();
+
+    /**
+     * Creates the prefab values for a type, and records how long that took.
+     *
+     * @param <T> The result of the creator.
+     * @param tag The type for which values are created.
+     * @param creator Creates the values.
+     * @return The result of {@code creator}.
+     */
+    <T> T prefabValues(TypeTag tag, Supplier<T> creator);
+
+    /**
+     * Generates a dynamic subclass, and records how long that took.
+     *
+     * @param <T> The result of the generator.
+     * @param superclass The class for which a subclass is generated.
+     * @param generator Generates the subclass.
+     * @return The result of {@code generator}.
+     */
+    <T> T dynamicSubclass(Class<?> superclass, Supplier<T> generator);
+}
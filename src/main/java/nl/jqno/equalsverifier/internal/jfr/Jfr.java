@@ -0,0 +1,60 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+
+import java.util.function.Supplier;
+
+/**
+ * Provides the {@link EventRecorder} for the current JVM.
+ *
+ * The recorder that emits JDK Flight Recorder events lives in the Java 11
+ * section of EqualsVerifier's multi-release jar, so it can't be referenced
+ * directly from here. It is loaded by name instead. On Java 8, or when the
+ * jdk.jfr module isn't available, a recorder that records nothing is used.
+ */
+public final class Jfr {
+    /* package protected */ static final String RECORDER_CLASS_NAME = "nl.jqno.equalsverifier.internal.jfr.JfrEventRecorder";
+
+    /* package protected */ static final EventRecorder NONE = new NoEventRecorder();
+
+    private static final EventRecorder RECORDER = load(RECORDER_CLASS_NAME);
+
+    private Jfr() {
+        // Do not instantiate
+    }
+
+    /**
+     * @return The {@link EventRecorder} for the current JVM.
+     */
+    public static EventRecorder recorder() {
+        return RECORDER;
+    }
+
+    /* package protected */ static EventRecorder load(String className) {
+        try {
+            Class<?> type = Class.forName(className, true, Jfr.class.getClassLoader());
+            return (EventRecorder)type.getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return NONE;
+        }
+    }
+
+    private static final class NoEventRecorder implements EventRecorder {
+        @Override
+        public VerificationListener verificationListener() {
+            return null;
+        }
+
+        @Override
+        public <T> T prefabValues(TypeTag tag, Supplier<T> creator) {
+            return creator.get();
+        }
+
+        @Override
+        public <T> T dynamicSubclass(Class<?> superclass, Supplier<T> generator) {
+            return generator.get();
+        }
+    }
+}
@@ -1,14 +1,47 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
-import java.util.HashMap;
-import java.util.Map;
+import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
+import nl.jqno.equalsverifier.internal.util.Counters;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * Contains a cache of prefabricated values, for {@link PrefabValues}.
+ *
+ * The cache can be shared between threads. Values for a given type are
+ * created at most once: if another thread is already creating them, the
+ * calling thread waits for it. If the threads would end up waiting for each
+ * other, the type is recursive and a {@link RecursionException} is thrown.
  */
 class Cache {
-    @SuppressWarnings("rawtypes")
-    private final Map<TypeTag, Tuple> cache = new HashMap<>();
+    private final ConcurrentMap<TypeTag, Entry> cache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Thread, Entry> waiting = new ConcurrentHashMap<>();
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * Constructor.
+     */
+    public Cache() {
+        this(new LongAdder(), new LongAdder());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param hits Is incremented when values are found in the cache.
+     * @param misses Is incremented when values have to be created.
+     */
+    public Cache(LongAdder hits, LongAdder misses) {
+        this.hits = hits;
+        this.misses = misses;
+    }
 
     /**
      * Adds a prefabricated value to the cache for the given type.
@@ -19,7 +52,9 @@ class Cache {
      * @param redCopy A shallow copy of the given red value.
      */
     public <T> void put(TypeTag tag, T red, T black, T redCopy) {
-        cache.put(tag, new Tuple<>(red, black, redCopy));
+        Entry entry = new Entry(Thread.currentThread());
+        entry.complete(new Tuple<>(red, black, redCopy));
+        cache.put(tag, entry);
     }
 
     /**
@@ -32,7 +67,8 @@ class Cache {
      */
     @SuppressWarnings("unchecked")
     public <T> Tuple<T> getTuple(TypeTag tag) {
-        return cache.get(tag);
+        Entry entry = cache.get(tag);
+        return entry == null ? null : (Tuple<T>)entry.tuple;
     }
 
     /**
@@ -41,6 +77,131 @@ class Cache {
      * @param tag A description of the type. Takes generics into account.
      */
     public boolean contains(TypeTag tag) {
-        return cache.containsKey(tag);
+        Entry entry = cache.get(tag);
+        return entry != null && entry.tuple != null;
+    }
+
+    /**
+     * Returns the {@link Tuple} of prefabricated values for the specified
+     * type, creating it first if it isn't in the cache yet.
+     *
+     * If creating the values fails, nothing is cached, and threads that
+     * were waiting for the values will try to create them themselves.
+     *
+     * @param tag A description of the type. Takes generics into account.
+     * @param typeStack The types that are being created by the calling
+     *          thread; used for reporting recursion.
+     * @param creator Creates the values.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Tuple<T> computeIfAbsent(TypeTag tag, TypeStack typeStack, Supplier<Tuple<T>> creator) {
+        Thread current = Thread.currentThread();
+        while (true) {
+            Entry entry = cache.get(tag);
+            if (entry == null) {
+                Entry created = new Entry(current);
+                entry = cache.putIfAbsent(tag, created);
+                if (entry == null) {
+                    misses.increment();
+                    Counters.prefabValueMiss();
+                    return create(tag, created, creator);
+                }
+            }
+
+            Tuple<?> tuple = entry.tuple;
+            if (tuple != null) {
+                hits.increment();
+                Counters.prefabValueHit();
+                return (Tuple<T>)tuple;
+            }
+            if (entry.isOwnedBy(current)) {
+                throw new RecursionException(typeStack);
+            }
+            awaitOther(entry, tag, typeStack);
+        }
+    }
+
+    private <T> Tuple<T> create(TypeTag tag, Entry entry, Supplier<Tuple<T>> creator) {
+        try {
+            Tuple<T> result = creator.get();
+            entry.complete(result);
+            return result;
+        }
+        catch (RuntimeException | Error e) {
+            cache.remove(tag, entry);
+            entry.fail();
+            throw e;
+        }
+    }
+
+    private void awaitOther(Entry entry, TypeTag tag, TypeStack typeStack) {
+        Thread current = Thread.currentThread();
+        waiting.put(current, entry);
+        try {
+            if (waitsFor(entry, current)) {
+                throw new RecursionException(typeStack.push(tag));
+            }
+            entry.await();
+        }
+        finally {
+            waiting.remove(current);
+        }
+    }
+
+    private boolean waitsFor(Entry entry, Thread thread) {
+        Set<Thread> seen = new HashSet<>();
+        Entry e = entry;
+        while (e != null) {
+            Thread owner = e.owner;
+            if (owner == null || !seen.add(owner)) {
+                return false;
+            }
+            if (owner == thread) {
+                return true;
+            }
+            e = waiting.get(owner);
+        }
+        return false;
+    }
+
+    private static final class Entry {
+        private final CountDownLatch done = new CountDownLatch(1);
+        // Cleared when done, so the cache doesn't keep threads alive.
+        private volatile Thread owner;
+        private volatile Tuple<?> tuple;
+
+        private Entry(Thread owner) {
+            this.owner = owner;
+        }
+
+        private boolean isOwnedBy(Thread thread) {
+            return owner == thread;
+        }
+
+        private void complete(Tuple<?> result) {
+            tuple = result;
+            owner = null;
+            done.countDown();
+        }
+
+        private void fail() {
+            owner = null;
+            done.countDown();
+        }
+
+        private void await() {
+            boolean interrupted = false;
+            while (done.getCount() > 0) {
+                try {
+                    done.await();
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 }
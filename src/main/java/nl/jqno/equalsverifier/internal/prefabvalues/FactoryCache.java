@@ -2,9 +2,7 @@ package nl.jqno.equalsverifier.internal.prefabvalues;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.*;
 
 /**
  * Contains a cache of factories, for {@link PrefabValues}.
@@ -16,6 +14,39 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      */
     private final Map<String, PrefabValueFactory<?>> cache = new HashMap<>();
 
+    /**
+     * Factories that aren't found in {@link #cache} are looked up here. The
+     * parent is never modified through this instance, so it can be shared by
+     * many caches.
+     */
+    private final FactoryCache parent;
+
+    /**
+     * Constructor.
+     */
+    public FactoryCache() {
+        this(null);
+    }
+
+    private FactoryCache(FactoryCache parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Returns a new, empty {@code FactoryCache} that falls back on
+     * {@code this} for types it doesn't contain itself.
+     *
+     * Factories that are added to the new cache shadow the ones in
+     * {@code this}; {@code this} itself is never modified through the new
+     * cache. Therefore, {@code this} can safely be shared between threads,
+     * provided it isn't modified after calling this method.
+     *
+     * @return A new overlay on top of {@code this}.
+     */
+    public FactoryCache overlay() {
+        return new FactoryCache(this);
+    }
+
     /**
      * Adds the given factory to the cache and associates it with the given
      * type.
@@ -60,7 +91,12 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
         if (type == null) {
             return null;
         }
-        return (PrefabValueFactory<T>)cache.get(type.getName());
+        String name = type.getName();
+        PrefabValueFactory<?> result = cache.get(name);
+        if (result == null && parent != null) {
+            return parent.get(type);
+        }
+        return (PrefabValueFactory<T>)result;
     }
 
     /**
@@ -68,20 +104,24 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      * @return Whether a factory is available for the given type.
      */
     public boolean contains(Class<?> type) {
-        return cache.containsKey(type.getName());
+        return cache.containsKey(type.getName()) || (parent != null && parent.contains(type));
     }
 
     /**
      * Returns a new {@code FactoryCache} instance containing the factories
      * from {@code this} and from the {@code other} cache.
      *
+     * If {@code this} is an overlay, the result shares its parent instead of
+     * copying it, so the cost of merging depends only on the factories that
+     * were added to {@code this} and {@code other} directly.
+     *
      * @param other The other cache
      * @return a new instance containing factories from {@code this} and
      *          {@code other}
      */
     public FactoryCache merge(FactoryCache other) {
-        FactoryCache result = new FactoryCache();
-        copy(result, this);
+        FactoryCache result = new FactoryCache(parent);
+        result.cache.putAll(cache);
         copy(result, other);
         return result;
     }
@@ -97,6 +137,14 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      */
     @Override
     public Iterator<Map.Entry<String, PrefabValueFactory<?>>> iterator() {
-        return cache.entrySet().iterator();
+        if (parent == null) {
+            return Collections.unmodifiableMap(cache).entrySet().iterator();
+        }
+        Map<String, PrefabValueFactory<?>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, PrefabValueFactory<?>> entry : parent) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        result.putAll(cache);
+        return Collections.unmodifiableMap(result).entrySet().iterator();
     }
 }
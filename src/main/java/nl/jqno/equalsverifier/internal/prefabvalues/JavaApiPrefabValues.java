@@ -35,6 +35,9 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
  * Contains hand-made instances of well-known Java API classes that cannot be
  * instantiated dynamically because of an internal infinite recursion of types,
  * or other issues.
+ *
+ * Apart from those for primitive types and their wrappers, the instances are
+ * created only when a class under test needs them.
  */
 @SuppressFBWarnings(value = "SIC_INNER_SHOULD_BE_STATIC_ANON", justification = "That would be dozens of separate classes")
 public final class JavaApiPrefabValues {
@@ -51,6 +54,12 @@ public final class JavaApiPrefabValues {
 
     private static final Comparator<Object> OBJECT_COMPARATOR = Comparator.comparingInt(Object::hashCode);
 
+    /**
+     * Built only once per JVM, and never modified afterwards: callers only
+     * ever get an overlay on top of it.
+     */
+    private static final FactoryCache JAVA_API_FACTORIES = buildJavaApiFactories();
+
     private FactoryCache factoryCache;
 
     private enum Dummy { RED, BLACK }
@@ -66,9 +75,17 @@ public final class JavaApiPrefabValues {
      * Creates a FactoryCache pre-populated with instances of Java API classes
      * that cannot be instantiated dynamically.
      *
+     * The Java API factories themselves are shared between all verifications;
+     * the returned cache is a cheap overlay on top of them, which can be
+     * modified without affecting other callers.
+     *
      * @return A pre-populated {@link FactoryCache}.
      */
     public static FactoryCache build() {
+        return JAVA_API_FACTORIES.overlay();
+    }
+
+    private static FactoryCache buildJavaApiFactories() {
         FactoryCache result = new FactoryCache();
         new JavaApiPrefabValues(result).addJavaClasses();
         return result;
@@ -127,85 +144,106 @@ public final class JavaApiPrefabValues {
         addValues(Enum.class, Dummy.RED, Dummy.BLACK, Dummy.RED);
     }
 
-    @SuppressFBWarnings(
-        value = {"DMI_HARDCODED_ABSOLUTE_FILENAME", "DM_USELESS_THREAD"},
-        justification = "We just need an instance of File and Thread; they're not for actual use.")
     private void addCommonClasses() {
-        addValues(BigDecimal.class, BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.ZERO);
-        addValues(BigInteger.class, BigInteger.ZERO, BigInteger.ONE, BigInteger.ZERO);
-        addValues(File.class, new File(""), new File("/"), new File(""));
-        addValues(Formatter.class, new Formatter(), new Formatter(), new Formatter());
-        addValues(Locale.class, new Locale("nl"), new Locale("hu"), new Locale("nl"));
-        addValues(Pattern.class, Pattern.compile("one"), Pattern.compile("two"), Pattern.compile("one"));
-        addValues(Scanner.class, new Scanner("one"), new Scanner("two"), new Scanner("one"));
-        addValues(StampedLock.class, new StampedLock(), new StampedLock(), new StampedLock());
-        addValues(StringBuilder.class, new StringBuilder("one"), new StringBuilder("two"), new StringBuilder("three"));
-        addValues(Thread.class, new Thread("one"), new Thread("two"), new Thread("one"));
-        addValues(Throwable.class, new Throwable(), new Throwable(), new Throwable());
-        addValues(URI.class, URI.create("x"), URI.create("y"), URI.create("x"));
-        addValues(UUID.class, new UUID(0, -1), new UUID(1, 0), new UUID(0, -1));
+        addLazyValues(BigDecimal.class, () -> BigDecimal.ZERO, () -> BigDecimal.ONE, () -> BigDecimal.ZERO);
+        addLazyValues(BigInteger.class, () -> BigInteger.ZERO, () -> BigInteger.ONE, () -> BigInteger.ZERO);
+        addLazyValues(File.class, () -> new File(""), JavaApiPrefabValues::rootFile, () -> new File(""));
+        addLazyValues(Formatter.class, () -> new Formatter(), () -> new Formatter(), () -> new Formatter());
+        addLazyValues(Locale.class, () -> new Locale("nl"), () -> new Locale("hu"), () -> new Locale("nl"));
+        addLazyValues(Pattern.class, () -> Pattern.compile("one"), () -> Pattern.compile("two"), () -> Pattern.compile("one"));
+        addLazyValues(Scanner.class, () -> new Scanner("one"), () -> new Scanner("two"), () -> new Scanner("one"));
+        addLazyValues(StampedLock.class, () -> new StampedLock(), () -> new StampedLock(), () -> new StampedLock());
+        addLazyValues(StringBuilder.class, () -> new StringBuilder("one"), () -> new StringBuilder("two"), () -> new StringBuilder("three"));
+        addLazyValues(Thread.class, () -> thread("one"), () -> thread("two"), () -> thread("one"));
+        addLazyValues(Throwable.class, () -> new Throwable(), () -> new Throwable(), () -> new Throwable());
+        addLazyValues(URI.class, () -> URI.create("x"), () -> URI.create("y"), () -> URI.create("x"));
+        addLazyValues(UUID.class, () -> new UUID(0, -1), () -> new UUID(1, 0), () -> new UUID(0, -1));
 
         addFactory(CompletableFuture.class, simple(ignored -> new CompletableFuture<>(), CompletableFuture::new));
         addFactory(Optional.class, simple(Optional::of, Optional::empty));
         addFactory(Supplier.class, simple(a -> () -> a, () -> () -> null));
     }
 
+    @SuppressFBWarnings(value = "DMI_HARDCODED_ABSOLUTE_FILENAME", justification = "We just need an instance of File; it's not for actual use.")
+    private static File rootFile() {
+        return new File("/");
+    }
+
+    @SuppressFBWarnings(value = "DM_USELESS_THREAD", justification = "We just need an instance of Thread; it's not for actual use.")
+    private static Thread thread(String name) {
+        return new Thread(name);
+    }
+
     private void addDateTimeClasses() {
-        addValues(Calendar.class, new GregorianCalendar(2010, 7, 4), new GregorianCalendar(2010, 7, 5), new GregorianCalendar(2010, 7, 4));
-        addValues(Date.class, new Date(0), new Date(1), new Date(0));
-        addValues(DateFormat.class, DateFormat.getTimeInstance(), DateFormat.getDateInstance(), DateFormat.getTimeInstance());
-        addValues(DateTimeFormatter.class, DateTimeFormatter.ISO_TIME, DateTimeFormatter.ISO_DATE, DateTimeFormatter.ISO_TIME);
-        addValues(Duration.class, Duration.ZERO, Duration.ofDays(1L), Duration.ZERO);
-        addValues(GregorianCalendar.class, new GregorianCalendar(2010, 7, 4), new GregorianCalendar(2010, 7, 5), new GregorianCalendar(2010, 7, 4));
-        addValues(Instant.class, Instant.MIN, Instant.MAX, Instant.MIN);
-        addValues(LocalDateTime.class, LocalDateTime.MIN, LocalDateTime.MAX, LocalDateTime.MIN);
-        addValues(LocalDate.class, LocalDate.MIN, LocalDate.MAX, LocalDate.MIN);
-        addValues(LocalTime.class, LocalTime.MIN, LocalTime.MAX, LocalTime.MIN);
-        addValues(MonthDay.class,
-            MonthDay.of(1, 1),
-            MonthDay.of(12, 31),
-            MonthDay.of(1, 1));
-        addValues(OffsetDateTime.class, OffsetDateTime.MIN, OffsetDateTime.MAX, OffsetDateTime.MIN);
-        addValues(OffsetTime.class, OffsetTime.MIN, OffsetTime.MAX, OffsetTime.MIN);
-        addValues(Period.class, Period.ZERO, Period.of(1, 1, 1), Period.ZERO);
-        addValues(SimpleDateFormat.class, new SimpleDateFormat("yMd"), new SimpleDateFormat("dMy"), new SimpleDateFormat("yMd"));
-        addValues(TimeZone.class, TimeZone.getTimeZone("GMT+1"), TimeZone.getTimeZone("GMT+2"), TimeZone.getTimeZone("GMT+1"));
-        addValues(Year.class, Year.of(2000), Year.of(2010), Year.of(2000));
-        addValues(YearMonth.class,
-            YearMonth.of(2000, 1),
-            YearMonth.of(2010, 12),
-            YearMonth.of(2000, 1));
-        addValues(ZoneId.class, ZoneId.of("+1"), ZoneId.of("-10"), ZoneId.of("+1"));
-        addValues(ZoneOffset.class, ZoneOffset.ofHours(1), ZoneOffset.ofHours(-1), ZoneOffset.ofHours(1));
-        addValues(ZonedDateTime.class,
-            ZonedDateTime.parse("2017-12-13T10:15:30+01:00"),
-            ZonedDateTime.parse("2016-11-12T09:14:29-01:00"),
-            ZonedDateTime.parse("2017-12-13T10:15:30+01:00"));
+        addLazyValues(Calendar.class,
+            () -> new GregorianCalendar(2010, 7, 4),
+            () -> new GregorianCalendar(2010, 7, 5),
+            () -> new GregorianCalendar(2010, 7, 4));
+        addLazyValues(Date.class, () -> new Date(0), () -> new Date(1), () -> new Date(0));
+        addLazyValues(DateFormat.class, () -> DateFormat.getTimeInstance(), () -> DateFormat.getDateInstance(), () -> DateFormat.getTimeInstance());
+        addLazyValues(DateTimeFormatter.class, () -> DateTimeFormatter.ISO_TIME, () -> DateTimeFormatter.ISO_DATE, () -> DateTimeFormatter.ISO_TIME);
+        addLazyValues(Duration.class, () -> Duration.ZERO, () -> Duration.ofDays(1L), () -> Duration.ZERO);
+        addLazyValues(GregorianCalendar.class,
+            () -> new GregorianCalendar(2010, 7, 4),
+            () -> new GregorianCalendar(2010, 7, 5),
+            () -> new GregorianCalendar(2010, 7, 4));
+        addLazyValues(Instant.class, () -> Instant.MIN, () -> Instant.MAX, () -> Instant.MIN);
+        addLazyValues(LocalDateTime.class, () -> LocalDateTime.MIN, () -> LocalDateTime.MAX, () -> LocalDateTime.MIN);
+        addLazyValues(LocalDate.class, () -> LocalDate.MIN, () -> LocalDate.MAX, () -> LocalDate.MIN);
+        addLazyValues(LocalTime.class, () -> LocalTime.MIN, () -> LocalTime.MAX, () -> LocalTime.MIN);
+        addLazyValues(MonthDay.class,
+            () -> MonthDay.of(1, 1),
+            () -> MonthDay.of(12, 31),
+            () -> MonthDay.of(1, 1));
+        addLazyValues(OffsetDateTime.class, () -> OffsetDateTime.MIN, () -> OffsetDateTime.MAX, () -> OffsetDateTime.MIN);
+        addLazyValues(OffsetTime.class, () -> OffsetTime.MIN, () -> OffsetTime.MAX, () -> OffsetTime.MIN);
+        addLazyValues(Period.class, () -> Period.ZERO, () -> Period.of(1, 1, 1), () -> Period.ZERO);
+        addLazyValues(SimpleDateFormat.class,
+            () -> new SimpleDateFormat("yMd"),
+            () -> new SimpleDateFormat("dMy"),
+            () -> new SimpleDateFormat("yMd"));
+        addLazyValues(TimeZone.class, () -> TimeZone.getTimeZone("GMT+1"), () -> TimeZone.getTimeZone("GMT+2"), () -> TimeZone.getTimeZone("GMT+1"));
+        addLazyValues(Year.class, () -> Year.of(2000), () -> Year.of(2010), () -> Year.of(2000));
+        addLazyValues(YearMonth.class,
+            () -> YearMonth.of(2000, 1),
+            () -> YearMonth.of(2010, 12),
+            () -> YearMonth.of(2000, 1));
+        addLazyValues(ZoneId.class, () -> ZoneId.of("+1"), () -> ZoneId.of("-10"), () -> ZoneId.of("+1"));
+        addLazyValues(ZoneOffset.class, () -> ZoneOffset.ofHours(1), () -> ZoneOffset.ofHours(-1), () -> ZoneOffset.ofHours(1));
+        addLazyValues(ZonedDateTime.class,
+            () -> ZonedDateTime.parse("2017-12-13T10:15:30+01:00"),
+            () -> ZonedDateTime.parse("2016-11-12T09:14:29-01:00"),
+            () -> ZonedDateTime.parse("2017-12-13T10:15:30+01:00"));
     }
 
     private void addUncommonClasses() {
         addFactory(ThreadLocal.class, simple(a -> ThreadLocal.withInitial(() -> a), null));
 
-        addValues(java.sql.Date.class, new java.sql.Date(1337), new java.sql.Date(42), new java.sql.Date(1337));
-        addValues(java.sql.Time.class, new java.sql.Time(1337), new java.sql.Time(42), new java.sql.Time(1337));
-        addValues(java.sql.Timestamp.class, new java.sql.Timestamp(1337), new java.sql.Timestamp(42), new java.sql.Timestamp(1337));
+        addLazyValues(java.sql.Date.class, () -> new java.sql.Date(1337), () -> new java.sql.Date(42), () -> new java.sql.Date(1337));
+        addLazyValues(java.sql.Time.class, () -> new java.sql.Time(1337), () -> new java.sql.Time(42), () -> new java.sql.Time(1337));
+        addLazyValues(java.sql.Timestamp.class,
+            () -> new java.sql.Timestamp(1337),
+            () -> new java.sql.Timestamp(42),
+            () -> new java.sql.Timestamp(1337));
 
         // Constructing InetAddress reflectively, because it might throw an awkward exception otherwise.
+        addLazyValues("java.net.InetAddress",
+            () -> inetAddressByName("127.0.0.1"),
+            () -> inetAddressByName("127.0.0.42"),
+            () -> inetAddressByName("127.0.0.1"));
+        addLazyValues("java.net.Inet4Address",
+            () -> inetAddressByName("127.0.0.1"),
+            () -> inetAddressByName("127.0.0.42"),
+            () -> inetAddressByName("127.0.0.1"));
+        addLazyValues("java.net.Inet6Address",
+            () -> inetAddressByName("::1"),
+            () -> inetAddressByName("::"),
+            () -> inetAddressByName("::1"));
+    }
+
+    private static Object inetAddressByName(String name) {
         ConditionalInstantiator inetAddress = new ConditionalInstantiator("java.net.InetAddress");
-        ConditionalInstantiator inet4Address = new ConditionalInstantiator("java.net.Inet4Address");
-        ConditionalInstantiator inet6Address = new ConditionalInstantiator("java.net.Inet6Address");
-        addValues(inetAddress.resolve(),
-            inetAddress.callFactory("getByName", classes(String.class), objects("127.0.0.1")),
-            inetAddress.callFactory("getByName", classes(String.class), objects("127.0.0.42")),
-            inetAddress.callFactory("getByName", classes(String.class), objects("127.0.0.1")));
-        addValues(inet4Address.resolve(),
-            inetAddress.callFactory("getByName", classes(String.class), objects("127.0.0.1")),
-            inetAddress.callFactory("getByName", classes(String.class), objects("127.0.0.42")),
-            inetAddress.callFactory("getByName", classes(String.class), objects("127.0.0.1")));
-        addValues(inet6Address.resolve(),
-            inetAddress.callFactory("getByName", classes(String.class), objects("::1")),
-            inetAddress.callFactory("getByName", classes(String.class), objects("::")),
-            inetAddress.callFactory("getByName", classes(String.class), objects("::1")));
+        return inetAddress.callFactory("getByName", classes(String.class), objects(name));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -253,7 +291,7 @@ public final class JavaApiPrefabValues {
         addFactory(HashSet.class, collection(HashSet::new));
         addFactory(TreeSet.class, collection(() -> new TreeSet<>(OBJECT_COMPARATOR)));
         addFactory(EnumSet.class, new EnumSetFactory<>(EnumSet::copyOf));
-        addValues(BitSet.class, BitSet.valueOf(new byte[]{0}), BitSet.valueOf(new byte[]{1}), BitSet.valueOf(new byte[]{0}));
+        addLazyValues(BitSet.class, () -> BitSet.valueOf(new byte[]{0}), () -> BitSet.valueOf(new byte[]{1}), () -> BitSet.valueOf(new byte[]{0}));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -267,26 +305,39 @@ public final class JavaApiPrefabValues {
         addFactory(DelayQueue.class, collection(DelayQueue::new));
         addFactory(LinkedBlockingQueue.class, collection(() -> new LinkedBlockingQueue(1)));
         addFactory(PriorityBlockingQueue.class, collection(() -> new PriorityBlockingQueue<>(1, OBJECT_COMPARATOR)));
-        addValues(SynchronousQueue.class, new SynchronousQueue<>(), new SynchronousQueue<>(), new SynchronousQueue<>());
+        addLazyValues(SynchronousQueue.class, () -> new SynchronousQueue<>(), () -> new SynchronousQueue<>(), () -> new SynchronousQueue<>());
     }
 
     private void addNioBuffers() {
-        addValues(Buffer.class,
-                ByteBuffer.wrap(new byte[] { 0 }), ByteBuffer.wrap(new byte[] { 1 }), ByteBuffer.wrap(new byte[] { 0 }));
-        addValues(ByteBuffer.class,
-                ByteBuffer.wrap(new byte[] { 0 }), ByteBuffer.wrap(new byte[] { 1 }), ByteBuffer.wrap(new byte[] { 0 }));
-        addValues(CharBuffer.class,
-                CharBuffer.wrap("a"), CharBuffer.wrap("b"), CharBuffer.wrap("a"));
-        addValues(DoubleBuffer.class,
-                DoubleBuffer.wrap(new double[] { 0.0 }), DoubleBuffer.wrap(new double[] { 1.0 }), DoubleBuffer.wrap(new double[] { 0.0 }));
-        addValues(FloatBuffer.class,
-                FloatBuffer.wrap(new float[] { 0.0f }), FloatBuffer.wrap(new float[] { 1.0f }), FloatBuffer.wrap(new float[] { 0.0f }));
-        addValues(IntBuffer.class,
-                IntBuffer.wrap(new int[] { 0 }), IntBuffer.wrap(new int[] { 1 }), IntBuffer.wrap(new int[] { 0 }));
-        addValues(LongBuffer.class,
-                LongBuffer.wrap(new long[] { 0 }), LongBuffer.wrap(new long[] { 1 }), LongBuffer.wrap(new long[] { 0 }));
-        addValues(ShortBuffer.class,
-                ShortBuffer.wrap(new short[] { 0 }), ShortBuffer.wrap(new short[] { 1 }), ShortBuffer.wrap(new short[] { 0 }));
+        addLazyValues(Buffer.class,
+            () -> ByteBuffer.wrap(new byte[] { 0 }),
+            () -> ByteBuffer.wrap(new byte[] { 1 }),
+            () -> ByteBuffer.wrap(new byte[] { 0 }));
+        addLazyValues(ByteBuffer.class,
+            () -> ByteBuffer.wrap(new byte[] { 0 }),
+            () -> ByteBuffer.wrap(new byte[] { 1 }),
+            () -> ByteBuffer.wrap(new byte[] { 0 }));
+        addLazyValues(CharBuffer.class, () -> CharBuffer.wrap("a"), () -> CharBuffer.wrap("b"), () -> CharBuffer.wrap("a"));
+        addLazyValues(DoubleBuffer.class,
+            () -> DoubleBuffer.wrap(new double[] { 0.0 }),
+            () -> DoubleBuffer.wrap(new double[] { 1.0 }),
+            () -> DoubleBuffer.wrap(new double[] { 0.0 }));
+        addLazyValues(FloatBuffer.class,
+            () -> FloatBuffer.wrap(new float[] { 0.0f }),
+            () -> FloatBuffer.wrap(new float[] { 1.0f }),
+            () -> FloatBuffer.wrap(new float[] { 0.0f }));
+        addLazyValues(IntBuffer.class,
+            () -> IntBuffer.wrap(new int[] { 0 }),
+            () -> IntBuffer.wrap(new int[] { 1 }),
+            () -> IntBuffer.wrap(new int[] { 0 }));
+        addLazyValues(LongBuffer.class,
+            () -> LongBuffer.wrap(new long[] { 0 }),
+            () -> LongBuffer.wrap(new long[] { 1 }),
+            () -> LongBuffer.wrap(new long[] { 0 }));
+        addLazyValues(ShortBuffer.class,
+            () -> ShortBuffer.wrap(new short[] { 0 }),
+            () -> ShortBuffer.wrap(new short[] { 1 }),
+            () -> ShortBuffer.wrap(new short[] { 0 }));
     }
 
     @SuppressWarnings("unused")
@@ -303,29 +354,36 @@ public final class JavaApiPrefabValues {
 
     private void addReflectionClasses() {
         addValues(Class.class, Class.class, Object.class, Class.class);
+        addLazyValues(Field.class, () -> reflectionField("a"), () -> reflectionField("b"), () -> reflectionField("a"));
+        addLazyValues(Constructor.class,
+            () -> reflectionConstructor(),
+            () -> reflectionConstructor(Object.class),
+            () -> reflectionConstructor());
+        addLazyValues(Method.class, () -> reflectionMethod("m1"), () -> reflectionMethod("m2"), () -> reflectionMethod("m1"));
+    }
 
+    private static Field reflectionField(String name) {
         try {
-            Field f1 = JavaApiReflectionClassesContainer.class.getDeclaredField("a");
-            Field f2 = JavaApiReflectionClassesContainer.class.getDeclaredField("b");
-            addValues(Field.class, f1, f2, f1);
+            return JavaApiReflectionClassesContainer.class.getDeclaredField(name);
         }
         catch (NoSuchFieldException e) {
             throw new EqualsVerifierInternalBugException("Can't add prefab values for java.lang.reflect.Field", e);
         }
+    }
 
+    @SuppressWarnings("rawtypes")
+    private static Constructor reflectionConstructor(Class<?>... parameterTypes) {
         try {
-            Constructor<?> c1 = JavaApiReflectionClassesContainer.class.getDeclaredConstructor();
-            Constructor<?> c2 = JavaApiReflectionClassesContainer.class.getDeclaredConstructor(Object.class);
-            addValues(Constructor.class, c1, c2, c1);
+            return JavaApiReflectionClassesContainer.class.getDeclaredConstructor(parameterTypes);
         }
         catch (NoSuchMethodException e) {
             throw new EqualsVerifierInternalBugException("Can't add prefab values for java.lang.reflect.Constructor", e);
         }
+    }
 
+    private static Method reflectionMethod(String name) {
         try {
-            Method m1 = JavaApiReflectionClassesContainer.class.getDeclaredMethod("m1");
-            Method m2 = JavaApiReflectionClassesContainer.class.getDeclaredMethod("m2");
-            addValues(Method.class, m1, m2, m1);
+            return JavaApiReflectionClassesContainer.class.getDeclaredMethod(name);
         }
         catch (NoSuchMethodException e) {
             throw new EqualsVerifierInternalBugException("Can't add prefab values for java.lang.reflect.Method", e);
@@ -334,17 +392,17 @@ public final class JavaApiPrefabValues {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void addAtomicClasses() {
-        addValues(AtomicBoolean.class, new AtomicBoolean(true), new AtomicBoolean(false), new AtomicBoolean(true));
-        addValues(AtomicInteger.class, new AtomicInteger(1), new AtomicInteger(2), new AtomicInteger(1));
-        addValues(AtomicIntegerArray.class,
-            new AtomicIntegerArray(new int[] { 1 }),
-            new AtomicIntegerArray(new int[] { 2 }),
-            new AtomicIntegerArray(new int[] { 1 }));
-        addValues(AtomicLong.class, new AtomicLong(1L), new AtomicLong(2L), new AtomicLong(1L));
-        addValues(AtomicLongArray.class,
-            new AtomicLongArray(new long[] { 1L }),
-            new AtomicLongArray(new long[] { 2L }),
-            new AtomicLongArray(new long[] { 1L }));
+        addLazyValues(AtomicBoolean.class, () -> new AtomicBoolean(true), () -> new AtomicBoolean(false), () -> new AtomicBoolean(true));
+        addLazyValues(AtomicInteger.class, () -> new AtomicInteger(1), () -> new AtomicInteger(2), () -> new AtomicInteger(1));
+        addLazyValues(AtomicIntegerArray.class,
+            () -> new AtomicIntegerArray(new int[] { 1 }),
+            () -> new AtomicIntegerArray(new int[] { 2 }),
+            () -> new AtomicIntegerArray(new int[] { 1 }));
+        addLazyValues(AtomicLong.class, () -> new AtomicLong(1L), () -> new AtomicLong(2L), () -> new AtomicLong(1L));
+        addLazyValues(AtomicLongArray.class,
+            () -> new AtomicLongArray(new long[] { 1L }),
+            () -> new AtomicLongArray(new long[] { 2L }),
+            () -> new AtomicLongArray(new long[] { 1L }));
         addFactory(AtomicMarkableReference.class, simple(r -> new AtomicMarkableReference(r, true), null));
         addFactory(AtomicReference.class, simple(AtomicReference::new, null));
         addFactory(AtomicStampedReference.class, simple(r -> new AtomicStampedReference(r, 0), null));
@@ -467,6 +525,14 @@ public final class JavaApiPrefabValues {
         factoryCache.put(type, values(red, black, redCopy));
     }
 
+    private <T> void addLazyValues(Class<T> type, Supplier<T> red, Supplier<T> black, Supplier<T> redCopy) {
+        factoryCache.put(type, lazyValues(red, black, redCopy));
+    }
+
+    private <T> void addLazyValues(String typeName, Supplier<T> red, Supplier<T> black, Supplier<T> redCopy) {
+        factoryCache.put(typeName, lazyValues(red, black, redCopy));
+    }
+
     private <T> void addFactory(Class<T> type, PrefabValueFactory<T> factory) {
         factoryCache.put(type, factory);
     }
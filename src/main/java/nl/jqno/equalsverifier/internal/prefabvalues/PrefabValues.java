@@ -2,12 +2,12 @@ package nl.jqno.equalsverifier.internal.prefabvalues;
 
 import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.jfr.Jfr;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.FallbackFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
 
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 
 /**
@@ -16,11 +16,14 @@ import java.util.Map;
  * Only creates values ones, and caches them once they've been created. Takes
  * generics into account; i.e., {@code List<Integer>} is different from
  * {@code List<String>}.
+ *
+ * An instance can be shared between threads, as long as no prefab values
+ * are added to its {@link FactoryCache} anymore.
  */
 public class PrefabValues {
     private static final Map<Class<?>, Class<?>> PRIMITIVE_OBJECT_MAPPER = createPrimitiveObjectMapper();
 
-    private final Cache cache = new Cache();
+    private final Cache cache;
     private final FactoryCache factoryCache;
     private final PrefabValueFactory<?> fallbackFactory = new FallbackFactory<>();
 
@@ -30,7 +33,12 @@ public class PrefabValues {
      * @param factoryCache The factories that can be used to create values.
      */
     public PrefabValues(FactoryCache factoryCache) {
+        this(factoryCache, new Cache());
+    }
+
+    /* package protected */ PrefabValues(FactoryCache factoryCache, Cache cache) {
         this.factoryCache = factoryCache;
+        this.cache = cache;
     }
 
     /**
@@ -86,8 +94,7 @@ public class PrefabValues {
      * @return A tuple of two different values of the given type.
      */
     public <T> Tuple<T> giveTuple(TypeTag tag) {
-        realizeCacheFor(tag, emptyStack());
-        return cache.getTuple(tag);
+        return cache.computeIfAbsent(tag, TypeStack.EMPTY, () -> createTuple(tag, TypeStack.EMPTY));
     }
 
     /**
@@ -129,10 +136,6 @@ public class PrefabValues {
         return Arrays.deepEquals(new Object[] { x }, new Object[] { y });
     }
 
-    private LinkedHashSet<TypeTag> emptyStack() {
-        return new LinkedHashSet<>();
-    }
-
     /**
      * Makes sure that values for the specified type are present in the cache,
      * but doesn't return them.
@@ -142,14 +145,15 @@ public class PrefabValues {
      *            parameters.
      * @param typeStack Keeps track of recursion in the type.
      */
-    public <T> void realizeCacheFor(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
-        if (!cache.contains(tag)) {
-            Tuple<T> tuple = createTuple(tag, typeStack);
-            addToCache(tag, tuple);
-        }
+    public <T> void realizeCacheFor(TypeTag tag, TypeStack typeStack) {
+        cache.<T>computeIfAbsent(tag, typeStack, () -> createTuple(tag, typeStack));
+    }
+
+    private <T> Tuple<T> createTuple(TypeTag tag, TypeStack typeStack) {
+        return Jfr.recorder().prefabValues(tag, () -> instantiateTuple(tag, typeStack));
     }
 
-    private <T> Tuple<T> createTuple(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
+    private <T> Tuple<T> instantiateTuple(TypeTag tag, TypeStack typeStack) {
         if (typeStack.contains(tag)) {
             throw new RecursionException(typeStack);
         }
@@ -165,10 +169,6 @@ public class PrefabValues {
         return result;
     }
 
-    private void addToCache(TypeTag tag, Tuple<?> tuple) {
-        cache.put(tag, tuple.getRed(), tuple.getBlack(), tuple.getRedCopy());
-    }
-
     private static Map<Class<?>, Class<?>> createPrimitiveObjectMapper() {
         Map<Class<?>, Class<?>> result = new HashMap<>();
         result.put(boolean.class, Boolean.class);
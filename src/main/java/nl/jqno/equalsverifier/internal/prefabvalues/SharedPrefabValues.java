@@ -0,0 +1,222 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
+
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A JVM-wide cache of {@link PrefabValues}, for verifications that opt in to
+ * sharing their prefab values with other verifications.
+ *
+ * Verifications share an instance if the classes under test have the same
+ * ClassLoader, if they use the same default prefab values, and if they add
+ * the same prefab values on top of the default ones.
+ *
+ * The ClassLoaders are used as weak keys, but the prefab values that belong
+ * to a ClassLoader are instances of its classes, so they keep it reachable.
+ * They are held softly, which means that a ClassLoader can only be unloaded
+ * after the garbage collector has cleared them, when memory runs low, or
+ * after a call to {@link #clear()}. Per ClassLoader, only the
+ * {@value #MAX_CONFIGURATIONS} most recently used configurations are kept.
+ *
+ * Values aren't evicted from a configuration one by one: a verification
+ * fetches the values for a type several times, and must get the same
+ * instances every time. Evicting a whole configuration is safe, because a
+ * verification keeps its own reference to its {@link PrefabValues} until it
+ * is done.
+ */
+public final class SharedPrefabValues {
+    /* package protected */ static final int MAX_CONFIGURATIONS = 32;
+
+    private static final Map<ClassLoader, SoftReference<Registry>> REGISTRIES = new WeakHashMap<>();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+    private static final LongAdder VALUE_HITS = new LongAdder();
+    private static final LongAdder VALUE_MISSES = new LongAdder();
+
+    private SharedPrefabValues() {
+        // Do not instantiate
+    }
+
+    /**
+     * Returns the shared {@link PrefabValues} for the given class and
+     * factories, creating them if necessary.
+     *
+     * @param type The class under test.
+     * @param defaultFactories The factories that every verification gets,
+     *          such as the ones for the Java API. Verifications only share
+     *          prefab values if they pass the same instance, so it must not
+     *          be modified.
+     * @param factoryCache The factories that were added by the user, on top
+     *          of the default ones. Must not be modified afterwards.
+     * @return A {@link PrefabValues} instance that may be shared with other
+     *          threads.
+     */
+    public static PrefabValues get(Class<?> type, FactoryCache defaultFactories, FactoryCache factoryCache) {
+        Configuration key = new Configuration(defaultFactories, snapshot(factoryCache));
+        Registry registry = registryFor(type.getClassLoader());
+        synchronized (registry) {
+            PrefabValues result = registry.get(key);
+            if (result != null) {
+                HITS.increment();
+                return result;
+            }
+
+            MISSES.increment();
+            FactoryCache factories = defaultFactories.overlay().merge(factoryCache);
+            result = new PrefabValues(factories, new Cache(VALUE_HITS, VALUE_MISSES));
+            registry.put(key, result);
+            return result;
+        }
+    }
+
+    /**
+     * @return A snapshot of the cache's statistics since the JVM started or
+     *          since the last call to {@link #clear()}.
+     */
+    public static Statistics statistics() {
+        return new Statistics(HITS.sum(), MISSES.sum(), EVICTIONS.sum(), VALUE_HITS.sum(), VALUE_MISSES.sum());
+    }
+
+    /**
+     * Removes all shared prefab values and resets the statistics.
+     */
+    public static void clear() {
+        synchronized (REGISTRIES) {
+            REGISTRIES.clear();
+        }
+        HITS.reset();
+        MISSES.reset();
+        EVICTIONS.reset();
+        VALUE_HITS.reset();
+        VALUE_MISSES.reset();
+    }
+
+    private static Map<String, PrefabValueFactory<?>> snapshot(FactoryCache factoryCache) {
+        Map<String, PrefabValueFactory<?>> result = new HashMap<>();
+        for (Map.Entry<String, PrefabValueFactory<?>> entry : factoryCache) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    private static Registry registryFor(ClassLoader loader) {
+        synchronized (REGISTRIES) {
+            SoftReference<Registry> ref = REGISTRIES.get(loader);
+            Registry result = ref == null ? null : ref.get();
+            if (result == null) {
+                result = new Registry();
+                REGISTRIES.put(loader, new SoftReference<>(result));
+            }
+            return result;
+        }
+    }
+
+    private static final class Configuration {
+        private final FactoryCache defaultFactories;
+        private final Map<String, PrefabValueFactory<?>> factories;
+
+        private Configuration(FactoryCache defaultFactories, Map<String, PrefabValueFactory<?>> factories) {
+            this.defaultFactories = defaultFactories;
+            this.factories = factories;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Configuration)) {
+                return false;
+            }
+            Configuration other = (Configuration)obj;
+            return defaultFactories == other.defaultFactories && factories.equals(other.factories);
+        }
+
+        @Override
+        public int hashCode() {
+            return (59 * System.identityHashCode(defaultFactories)) + factories.hashCode();
+        }
+    }
+
+    private static final class Registry extends LinkedHashMap<Configuration, PrefabValues> {
+        private static final long serialVersionUID = 1L;
+
+        private Registry() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Configuration, PrefabValues> eldest) {
+            if (size() > MAX_CONFIGURATIONS) {
+                EVICTIONS.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Hit and miss counts for the shared prefab value cache.
+     */
+    public static final class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long valueHits;
+        private final long valueMisses;
+
+        private Statistics(long hits, long misses, long evictions, long valueHits, long valueMisses) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.valueHits = valueHits;
+            this.valueMisses = valueMisses;
+        }
+
+        /**
+         * @return How often a verification could reuse existing prefab
+         *          values.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return How often a verification needed new prefab values.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return How often prefab values were evicted because there were
+         *          too many configurations.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * @return How often a value for a type was found in the shared
+         *          prefab values.
+         */
+        public long getValueHits() {
+            return valueHits;
+        }
+
+        /**
+         * @return How often a value for a type had to be created.
+         */
+        public long getValueMisses() {
+            return valueMisses;
+        }
+
+        @Override
+        public String toString() {
+            return "SharedPrefabValues.Statistics[hits=" + hits + ", misses=" + misses +
+                    ", evictions=" + evictions + ", valueHits=" + valueHits + ", valueMisses=" + valueMisses + "]";
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable stack of the {@link TypeTag}s whose prefab values are being
+ * created, used to detect recursive data structures.
+ *
+ * Pushing a tag returns a new stack that shares its tail with the original,
+ * so passing a stack down a level of recursion doesn't copy it.
+ */
+public final class TypeStack {
+    /**
+     * The stack without any types.
+     */
+    public static final TypeStack EMPTY = new TypeStack(null, null, 0);
+
+    private final TypeTag head;
+    private final TypeStack tail;
+    private final int size;
+
+    private TypeStack(TypeTag head, TypeStack tail, int size) {
+        this.head = head;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    /**
+     * Creates a stack with the given types, where the last type is at the
+     * top.
+     *
+     * @param tags The types on the stack, oldest first.
+     * @return A stack with the given types.
+     */
+    public static TypeStack of(TypeTag... tags) {
+        TypeStack result = EMPTY;
+        for (TypeTag tag : tags) {
+            result = result.push(tag);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new stack with the given type on top. This stack is not
+     * modified.
+     *
+     * @param tag The type to push.
+     * @return A new stack.
+     */
+    public TypeStack push(TypeTag tag) {
+        return new TypeStack(tag, this, size + 1);
+    }
+
+    /**
+     * @param tag The type to look for.
+     * @return Whether the given type is on the stack.
+     */
+    public boolean contains(TypeTag tag) {
+        for (TypeStack s = this; s.size > 0; s = s.tail) {
+            if (s.head.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of types on the stack.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Whether the stack contains no types.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The types on the stack, in the order in which they were pushed.
+     */
+    public List<TypeTag> toList() {
+        List<TypeTag> result = new ArrayList<>(size);
+        for (TypeStack s = this; s.size > 0; s = s.tail) {
+            result.add(s.head);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
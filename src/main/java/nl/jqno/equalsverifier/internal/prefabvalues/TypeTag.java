@@ -4,6 +4,8 @@ import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugExcep
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 
@@ -11,6 +13,17 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
  * Represents a generic type, including raw type and generic type parameters.
  *
  * If the type is not generic, the genericTypes list will be empty.
+ *
+ * TypeTags are immutable, so their hashCode is calculated only once. Tags
+ * that are resolved from a field are cached, so resolving the same field in
+ * the same enclosing type again returns the same instance.
+ *
+ * The cache for a field lives as long as the field's declaring class, so a
+ * tag is only cached if the declaring class keeps every class in it alive
+ * anyway: that is, if they were loaded by the declaring class's ClassLoader
+ * or one of its parents. Otherwise, the cache would keep a ClassLoader from
+ * being unloaded. Per field, at most {@value #MAX_RESOLVED_PER_FIELD}
+ * enclosing types are cached.
  */
 public final class TypeTag {
     /**
@@ -18,8 +31,19 @@ public final class TypeTag {
      */
     public static final TypeTag NULL = new TypeTag(NullType.class);
 
+    /* package protected */ static final int MAX_RESOLVED_PER_FIELD = 16;
+
+    private static final ClassValue<ConcurrentMap<Field, ConcurrentMap<TypeTag, TypeTag>>> RESOLVED_FIELDS =
+        new ClassValue<ConcurrentMap<Field, ConcurrentMap<TypeTag, TypeTag>>>() {
+            @Override
+            protected ConcurrentMap<Field, ConcurrentMap<TypeTag, TypeTag>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private final Class<?> type;
     private final List<TypeTag> genericTypes;
+    private final int cachedHashCode;
 
     /**
      * Constructor.
@@ -28,7 +52,7 @@ public final class TypeTag {
      * @param genericTypes A list of TypeTags for each generic type parameter.
      */
     public TypeTag(Class<?> type, TypeTag... genericTypes) {
-        this(type, Arrays.asList(genericTypes));
+        this(type, Arrays.asList(genericTypes.clone()));
     }
 
     private TypeTag(Class<?> type, List<TypeTag> genericTypes) {
@@ -36,7 +60,8 @@ public final class TypeTag {
             throw new NullPointerException("type");
         }
         this.type = type;
-        this.genericTypes = genericTypes;
+        this.genericTypes = Collections.unmodifiableList(genericTypes);
+        this.cachedHashCode = calculateHashCode();
     }
 
     /**
@@ -49,7 +74,53 @@ public final class TypeTag {
      * @return The TypeTag for the given field.
      */
     public static TypeTag of(Field field, TypeTag enclosingType) {
-        return resolve(field.getGenericType(), enclosingType, false);
+        ConcurrentMap<TypeTag, TypeTag> resolved = RESOLVED_FIELDS.get(field.getDeclaringClass())
+                .computeIfAbsent(field, f -> new ConcurrentHashMap<>());
+        TypeTag result = resolved.get(enclosingType);
+        if (result != null) {
+            return result;
+        }
+
+        result = resolve(field.getGenericType(), enclosingType, false);
+        if (resolved.size() >= MAX_RESOLVED_PER_FIELD || !canBeCached(field, enclosingType, result)) {
+            return result;
+        }
+        TypeTag existing = resolved.putIfAbsent(enclosingType, result);
+        return existing == null ? result : existing;
+    }
+
+    /*
+     * Only called before a tag is cached, so looking up a cached tag doesn't
+     * have to walk the ClassLoaders again.
+     */
+    private static boolean canBeCached(Field field, TypeTag enclosingType, TypeTag result) {
+        ClassLoader loader = field.getDeclaringClass().getClassLoader();
+        return isKeptAliveBy(loader, TypeTag.class) && isKeptAliveBy(loader, enclosingType) && isKeptAliveBy(loader, result);
+    }
+
+    private static boolean isKeptAliveBy(ClassLoader loader, TypeTag tag) {
+        if (!isKeptAliveBy(loader, tag.type)) {
+            return false;
+        }
+        for (TypeTag genericType : tag.genericTypes) {
+            if (!isKeptAliveBy(loader, genericType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isKeptAliveBy(ClassLoader loader, Class<?> type) {
+        ClassLoader typeLoader = type.getClassLoader();
+        if (typeLoader == null) {
+            return true;
+        }
+        for (ClassLoader l = loader; l != null; l = l.getParent()) {
+            if (l == typeLoader) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private static TypeTag resolve(Type type, TypeTag enclosingType, boolean shortCircuitRecursiveTypeBound) {
@@ -105,10 +176,9 @@ public final class TypeTag {
 
     private static TypeTag processTypeVariable(TypeVariable<?> type, TypeTag enclosingType,
                 boolean shortCircuitRecursiveTypeBound) {
-        Map<String, TypeTag> typeVariableLookup = buildLookup(enclosingType);
-        String typeVariableName = type.getName();
-        if (typeVariableLookup.containsKey(typeVariableName)) {
-            return typeVariableLookup.get(typeVariableName);
+        TypeTag lookedUp = lookup(type.getName(), enclosingType);
+        if (lookedUp != null) {
+            return lookedUp;
         }
         for (Type b : type.getBounds()) {
             if (!shortCircuitRecursiveTypeBound) {
@@ -118,19 +188,19 @@ public final class TypeTag {
         return new TypeTag(Object.class);
     }
 
-    private static Map<String, TypeTag> buildLookup(TypeTag enclosingType) {
-        TypeVariable<?>[] typeParameters = enclosingType.getType().getTypeParameters();
-        Map<String, TypeTag> lookup = new HashMap<>();
-        if (enclosingType.getGenericTypes().size() == 0) {
-            return lookup;
+    private static TypeTag lookup(String typeVariableName, TypeTag enclosingType) {
+        List<TypeTag> genericTypes = enclosingType.genericTypes;
+        if (genericTypes.isEmpty()) {
+            return null;
         }
 
+        TypeVariable<?>[] typeParameters = enclosingType.type.getTypeParameters();
         for (int i = 0; i < typeParameters.length; i++) {
-            String name = typeParameters[i].getName();
-            TypeTag tag = enclosingType.getGenericTypes().get(i);
-            lookup.put(name, tag);
+            if (typeParameters[i].getName().equals(typeVariableName)) {
+                return genericTypes.get(i);
+            }
         }
-        return lookup;
+        return null;
     }
 
     /**
@@ -146,7 +216,7 @@ public final class TypeTag {
      * @return The TypeTag's generic types.
      */
     public List<TypeTag> getGenericTypes() {
-        return Collections.unmodifiableList(genericTypes);
+        return genericTypes;
     }
 
     /**
@@ -154,6 +224,9 @@ public final class TypeTag {
      */
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (!(obj instanceof TypeTag)) {
             return false;
         }
@@ -166,6 +239,10 @@ public final class TypeTag {
      */
     @Override
     public int hashCode() {
+        return cachedHashCode;
+    }
+
+    private int calculateHashCode() {
         int result = 37;
         result = (59 * result) + type.hashCode();
         result = (59 * result) + genericTypes.hashCode();
@@ -3,12 +3,12 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -18,13 +18,6 @@ import java.util.List;
 public abstract class AbstractGenericFactory<T> implements PrefabValueFactory<T> {
     public static final TypeTag OBJECT_TYPE_TAG = new TypeTag(Object.class);
 
-    protected LinkedHashSet<TypeTag> cloneWith(LinkedHashSet<TypeTag> typeStack, TypeTag tag) {
-        @SuppressWarnings("unchecked")
-        LinkedHashSet<TypeTag> clone = (LinkedHashSet<TypeTag>)typeStack.clone();
-        clone.add(tag);
-        return clone;
-    }
-
     protected TypeTag copyGenericTypesInto(Class<?> type, TypeTag source) {
         List<TypeTag> genericTypes = new ArrayList<>();
         for (TypeTag tag : source.getGenericTypes()) {
@@ -34,12 +27,12 @@ public abstract class AbstractGenericFactory<T> implements PrefabValueFactory<T>
     }
 
     protected TypeTag determineAndCacheActualTypeTag(int n, TypeTag tag, PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack) {
+            TypeStack typeStack) {
         return determineAndCacheActualTypeTag(n, tag, prefabValues, typeStack, null);
     }
 
     protected TypeTag determineAndCacheActualTypeTag(int n, TypeTag tag, PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack, Class<?> bottomType) {
+            TypeStack typeStack, Class<?> bottomType) {
         TypeTag result = determineActualTypeTagFor(n, tag);
         if (bottomType != null && result.getType().equals(Object.class)) {
             result = new TypeTag(bottomType);
@@ -3,34 +3,55 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders.FactoryProvider;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
-import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 
+/**
+ * Implementation of {@link PrefabValueFactory} that delegates to a
+ * {@link FactoryProvider} for a library that may not be on the classpath.
+ *
+ * Each provider is instantiated at most once per JVM, the first time one of
+ * its types is needed, and its factories are shared by all ExternalFactories
+ * and threads. The providers register their types without creating any
+ * values, so only the values for the requested type are created.
+ */
 public class ExternalFactory<T> implements PrefabValueFactory<T> {
     private static final String EXTERNAL_FACTORIES_PACKAGE = "nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders.";
+    private static final ConcurrentMap<String, FactoryCache> PROVIDERS = new ConcurrentHashMap<>();
 
     private final String factoryName;
-    private FactoryCache factoryCache;
+    private volatile FactoryCache factoryCache;
 
     public ExternalFactory(String factoryName) {
         this.factoryName = EXTERNAL_FACTORIES_PACKAGE + factoryName;
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        if (factoryCache == null) {
-            ConditionalInstantiator ci = new ConditionalInstantiator(factoryName);
-            FactoryProvider provider = ci.instantiate(classes(), objects());
-            factoryCache = provider.getFactoryCache();
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        PrefabValueFactory<T> factory = getFactoryCache().get(tag.getType());
+        return factory.createValues(tag, prefabValues, typeStack);
+    }
+
+    /* package protected */ FactoryCache getFactoryCache() {
+        FactoryCache result = factoryCache;
+        if (result == null) {
+            result = PROVIDERS.computeIfAbsent(factoryName, ExternalFactory::instantiateProvider);
+            factoryCache = result;
         }
+        return result;
+    }
 
-        PrefabValueFactory<T> factory = factoryCache.get(tag.getType());
-        return factory.createValues(tag, prefabValues, typeStack);
+    private static FactoryCache instantiateProvider(String factoryName) {
+        ConditionalInstantiator ci = new ConditionalInstantiator(factoryName);
+        FactoryProvider provider = ci.instantiate(classes(), objects());
+        return provider.getFactoryCache();
     }
 }
@@ -2,6 +2,7 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
 
 import java.util.Collection;
 import java.util.Map;
@@ -17,6 +18,14 @@ public final class Factories {
         return new SimpleFactory<>(red, black, redCopy);
     }
 
+    public static <T> PrefabValueFactory<T> lazyValues(Supplier<T> red, Supplier<T> black, Supplier<T> redCopy) {
+        return new LazyFactory<>(() -> new Tuple<>(red.get(), black.get(), redCopy.get()));
+    }
+
+    public static <T> PrefabValueFactory<T> lazy(Supplier<Tuple<T>> values) {
+        return new LazyFactory<>(values);
+    }
+
     public static <A, T> PrefabValueFactory<T> simple(Func1<A, T> factory, Supplier<T> emptyFactory) {
         return new SimpleGenericFactory<>(factory, emptyFactory);
     }
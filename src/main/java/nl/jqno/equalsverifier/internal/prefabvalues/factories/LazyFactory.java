@@ -0,0 +1,36 @@
+package nl.jqno.equalsverifier.internal.prefabvalues.factories;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link PrefabValueFactory} that creates its instances
+ * only when they are first needed, and then holds on to them.
+ */
+public class LazyFactory<T> implements PrefabValueFactory<T> {
+    private final Supplier<Tuple<T>> supplier;
+    private volatile Tuple<T> tuple;
+
+    public LazyFactory(Supplier<Tuple<T>> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        Tuple<T> result = tuple;
+        if (result == null) {
+            synchronized (this) {
+                result = tuple;
+                if (result == null) {
+                    result = supplier.get();
+                    tuple = result;
+                }
+            }
+        }
+        return result;
+    }
+}
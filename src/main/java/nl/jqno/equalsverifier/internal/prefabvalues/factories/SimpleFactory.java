@@ -2,23 +2,43 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
-import java.util.LinkedHashSet;
-
 /**
  * Implementation of {@link PrefabValueFactory} that holds on to two instances
  * that have already been created.
+ *
+ * Two factories are equal if they hold the very same red and black instances,
+ * so that the shared prefab value cache can recognise a configuration that
+ * reuses them. The red copy is not compared, because it is usually made
+ * especially for the factory. The instances aren't compared with
+ * {@code equals}, because the {@code equals} method may well be the one that
+ * is under test.
  */
 public class SimpleFactory<T> implements PrefabValueFactory<T> {
-    private Tuple<T> tuple;
+    private final Tuple<T> tuple;
 
     public SimpleFactory(T red, T black, T redCopy) {
         this.tuple = new Tuple<>(red, black, redCopy);
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
         return tuple;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof SimpleFactory)) {
+            return false;
+        }
+        Tuple<?> other = ((SimpleFactory<?>)obj).tuple;
+        return tuple.getRed() == other.getRed() && tuple.getBlack() == other.getBlack();
+    }
+
+    @Override
+    public int hashCode() {
+        return 37 * System.identityHashCode(tuple.getRed()) + System.identityHashCode(tuple.getBlack());
+    }
 }
@@ -3,10 +3,10 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import nl.jqno.equalsverifier.Func;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -21,8 +21,8 @@ public class SimpleGenericFactory<T> extends AbstractGenericFactory<T> {
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
 
         List<Object> redValues = new ArrayList<>();
         List<Object> blackValues = new ArrayList<>();
@@ -30,7 +30,7 @@ public class SimpleGenericFactory<T> extends AbstractGenericFactory<T> {
         boolean useEmpty = false;
         int n = tag.getType().getTypeParameters().length;
         for (int i = 0; i < n; i++) {
-            TypeTag paramTag = determineAndCacheActualTypeTag(i, tag, prefabValues, clone);
+            TypeTag paramTag = determineAndCacheActualTypeTag(i, tag, prefabValues, stack);
 
             Object redValue = prefabValues.giveRed(paramTag);
             Object blackValue = prefabValues.giveBlack(paramTag);
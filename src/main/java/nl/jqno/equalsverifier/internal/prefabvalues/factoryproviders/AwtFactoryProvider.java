@@ -7,7 +7,7 @@ import java.awt.color.ColorSpace;
 import java.awt.color.ICC_ColorSpace;
 import java.awt.color.ICC_Profile;
 
-import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
+import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.lazyValues;
 
 public final class AwtFactoryProvider implements FactoryProvider {
 
@@ -19,16 +19,19 @@ public final class AwtFactoryProvider implements FactoryProvider {
 
         cache.put(
             Color.class,
-            values(Color.RED, Color.BLACK, Color.RED));
+            lazyValues(() -> Color.RED, () -> Color.BLACK, () -> Color.RED));
         cache.put(
             ColorSpace.class,
-            values(ColorSpace.getInstance(CS_RED), ColorSpace.getInstance(CS_BLACK), ColorSpace.getInstance(CS_RED)));
+            lazyValues(() -> ColorSpace.getInstance(CS_RED), () -> ColorSpace.getInstance(CS_BLACK), () -> ColorSpace.getInstance(CS_RED)));
         cache.put(
             ICC_ColorSpace.class,
-            values(ICC_ColorSpace.getInstance(CS_RED), ICC_ColorSpace.getInstance(CS_BLACK), ICC_ColorSpace.getInstance(CS_RED)));
+            lazyValues(
+                () -> ICC_ColorSpace.getInstance(CS_RED),
+                () -> ICC_ColorSpace.getInstance(CS_BLACK),
+                () -> ICC_ColorSpace.getInstance(CS_RED)));
         cache.put(
             ICC_Profile.class,
-            values(ICC_Profile.getInstance(CS_RED), ICC_Profile.getInstance(CS_BLACK), ICC_Profile.getInstance(CS_RED)));
+            lazyValues(() -> ICC_Profile.getInstance(CS_RED), () -> ICC_Profile.getInstance(CS_BLACK), () -> ICC_Profile.getInstance(CS_RED)));
 
         return cache;
     }
@@ -5,6 +5,7 @@ import com.google.common.reflect.TypeToken;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.AbstractGenericFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.EnumMapFactory;
@@ -103,7 +104,8 @@ public final class GuavaFactoryProvider implements FactoryProvider {
     private void putNewTypes(FactoryCache cache) {
         cache.put(Range.class, Factories.<Comparable<?>, Range<?>>simple(Range::atLeast, Range::all));
         cache.put(com.google.common.base.Optional.class, simple(com.google.common.base.Optional::of, com.google.common.base.Optional::absent));
-        cache.put(TypeToken.class, values(TypeToken.of(Object.class), TypeToken.of(String.class), TypeToken.of(Object.class)));
+        cache.put(TypeToken.class,
+            lazyValues(() -> TypeToken.of(Object.class), () -> TypeToken.of(String.class), () -> TypeToken.of(Object.class)));
     }
 
     private <K, V, T extends Multimap<K, V>> MultimapFactory<K, V, T> multimap(Supplier<T> factory) {
@@ -122,10 +124,10 @@ public final class GuavaFactoryProvider implements FactoryProvider {
         }
 
         @Override
-        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-            LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-            TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
-            TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
+        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+            TypeStack stack = typeStack.push(tag);
+            TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
+            TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, stack);
 
             T red = factory.get();
             T black = factory.get();
@@ -147,11 +149,11 @@ public final class GuavaFactoryProvider implements FactoryProvider {
         }
 
         @Override
-        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-            LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-            TypeTag columnTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
-            TypeTag rowTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
-            TypeTag valueTag = determineAndCacheActualTypeTag(2, tag, prefabValues, clone);
+        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+            TypeStack stack = typeStack.push(tag);
+            TypeTag columnTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
+            TypeTag rowTag = determineAndCacheActualTypeTag(1, tag, prefabValues, stack);
+            TypeTag valueTag = determineAndCacheActualTypeTag(2, tag, prefabValues, stack);
 
             T red = factory.get();
             T black = factory.get();
@@ -4,14 +4,14 @@ import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 
 import javax.naming.Reference;
 
-import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
+import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.lazyValues;
 
 public final class JavaxFactoryProvider implements FactoryProvider {
 
     public FactoryCache getFactoryCache() {
         FactoryCache cache = new FactoryCache();
 
-        cache.put(Reference.class, values(new Reference("one"), new Reference("two"), new Reference("one")));
+        cache.put(Reference.class, lazyValues(() -> new Reference("one"), () -> new Reference("two"), () -> new Reference("one")));
 
         return cache;
     }
@@ -5,7 +5,7 @@ import org.joda.time.*;
 import org.joda.time.chrono.GregorianChronology;
 import org.joda.time.chrono.ISOChronology;
 
-import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
+import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.lazyValues;
 
 public final class JodaFactoryProvider implements FactoryProvider {
 
@@ -14,19 +14,19 @@ public final class JodaFactoryProvider implements FactoryProvider {
 
         cache.put(
             Chronology.class,
-            values(GregorianChronology.getInstanceUTC(), ISOChronology.getInstanceUTC(), GregorianChronology.getInstanceUTC()));
+            lazyValues(() -> GregorianChronology.getInstanceUTC(), () -> ISOChronology.getInstanceUTC(), () -> GregorianChronology.getInstanceUTC()));
         cache.put(
             DateTimeZone.class,
-            values(DateTimeZone.forOffsetHours(+1), DateTimeZone.forOffsetHours(-10), DateTimeZone.forOffsetHours(+1)));
+            lazyValues(() -> DateTimeZone.forOffsetHours(+1), () -> DateTimeZone.forOffsetHours(-10), () -> DateTimeZone.forOffsetHours(+1)));
         cache.put(
             PeriodType.class,
-            values(PeriodType.days(), PeriodType.hours(), PeriodType.days()));
+            lazyValues(() -> PeriodType.days(), () -> PeriodType.hours(), () -> PeriodType.days()));
         cache.put(
             YearMonth.class,
-            values(new YearMonth(2018, 5), new YearMonth(2014, 7), new YearMonth(2018, 5)));
+            lazyValues(() -> new YearMonth(2018, 5), () -> new YearMonth(2014, 7), () -> new YearMonth(2018, 5)));
         cache.put(
             MonthDay.class,
-            values(new MonthDay(6, 1), new MonthDay(6, 26), new MonthDay(6, 1)));
+            lazyValues(() -> new MonthDay(6, 1), () -> new MonthDay(6, 26), () -> new MonthDay(6, 1)));
 
         return cache;
     }
@@ -1,21 +1,26 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
 
 import java.rmi.dgc.VMID;
 import java.rmi.server.UID;
 
-import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
+import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.lazy;
 
 public final class RmiFactoryProvider implements FactoryProvider {
 
     public FactoryCache getFactoryCache() {
         FactoryCache cache = new FactoryCache();
 
-        VMID redVmid = new VMID();
-        cache.put(VMID.class, values(redVmid, new VMID(), redVmid));
-        UID redUid = new UID();
-        cache.put(UID.class, values(redUid, new UID(), redUid));
+        cache.put(VMID.class, lazy(() -> {
+            VMID redVmid = new VMID();
+            return new Tuple<>(redVmid, new VMID(), redVmid);
+        }));
+        cache.put(UID.class, lazy(() -> {
+            UID redUid = new UID();
+            return new Tuple<>(redUid, new UID(), redUid);
+        }));
 
         return cache;
     }
@@ -8,6 +8,8 @@ import nl.jqno.equalsverifier.internal.reflection.annotations.NonnullAnnotationV
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -15,11 +17,16 @@ import java.util.Set;
  * can create two different instances of T, which are guaranteed not to be
  * equal to each other, and which contain no null values.
  *
+ * Scrambling an instance is expensive, so the red and black instances are
+ * scrambled only once. After that, every call returns a fresh copy.
+ *
  * @param <T> A class.
  */
 public class ClassAccessor<T> {
     private final Class<T> type;
     private final PrefabValues prefabValues;
+    private final Map<TypeTag, ObjectAccessor<T>> redPrototypes = new HashMap<>();
+    private final Map<TypeTag, ObjectAccessor<T>> blackPrototypes = new HashMap<>();
 
     /**
      * Private constructor. Call {@link #of(Class, PrefabValues)} instead.
@@ -171,9 +178,13 @@ public class ClassAccessor<T> {
      * @return An {@link ObjectAccessor} for {@link #getRedObject(TypeTag)}.
      */
     public ObjectAccessor<T> getRedAccessor(TypeTag enclosingType) {
-        ObjectAccessor<T> result = buildObjectAccessor();
-        result.scramble(prefabValues, enclosingType);
-        return result;
+        ObjectAccessor<T> prototype = redPrototypes.get(enclosingType);
+        if (prototype == null) {
+            prototype = buildObjectAccessor();
+            prototype.scramble(prefabValues, enclosingType);
+            redPrototypes.put(enclosingType, prototype);
+        }
+        return ObjectAccessor.of(prototype.copy());
     }
 
     /**
@@ -198,10 +209,14 @@ public class ClassAccessor<T> {
      * @return An {@link ObjectAccessor} for {@link #getBlackObject(TypeTag)}.
      */
     public ObjectAccessor<T> getBlackAccessor(TypeTag enclosingType) {
-        ObjectAccessor<T> result = buildObjectAccessor();
-        result.scramble(prefabValues, enclosingType);
-        result.scramble(prefabValues, enclosingType);
-        return result;
+        ObjectAccessor<T> prototype = blackPrototypes.get(enclosingType);
+        if (prototype == null) {
+            prototype = buildObjectAccessor();
+            prototype.scramble(prefabValues, enclosingType);
+            prototype.scramble(prefabValues, enclosingType);
+            blackPrototypes.put(enclosingType, prototype);
+        }
+        return ObjectAccessor.of(prototype.copy());
     }
 
     /**
@@ -220,9 +235,9 @@ public class ClassAccessor<T> {
      */
     public ObjectAccessor<T> getDefaultValuesAccessor(TypeTag enclosingType, Set<String> nonnullFields, AnnotationCache annotationCache) {
         ObjectAccessor<T> result = buildObjectAccessor();
-        for (Field field : FieldIterable.of(type)) {
+        for (FieldAccessor accessor : result.fieldAccessors()) {
+            Field field = accessor.getField();
             if (NonnullAnnotationVerifier.fieldIsNonnull(field, annotationCache) || nonnullFields.contains(field.getName())) {
-                FieldAccessor accessor = result.fieldAccessorFor(field);
                 accessor.changeField(prefabValues, enclosingType);
             }
         }
@@ -0,0 +1,97 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.util.Counters;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Copies all non-static fields of an object, including those declared in its
+ * superclasses, into another object with a single {@link MethodHandle}
+ * invocation.
+ *
+ * The handle is composed once per class, from the handles that
+ * {@link FieldHandles} creates for each field. If a handle can't be created
+ * for one of the fields, the copier is unavailable and the caller should
+ * copy the fields one by one.
+ */
+final class Copier {
+    // The starting point for composing the copiers of the individual fields.
+    private static final MethodHandle DO_NOTHING = MethodHandles.dropArguments(
+            MethodHandles.constant(Object.class, null).asType(MethodType.methodType(void.class)),
+            0, Object.class, Object.class);
+
+    private static final ClassValue<Copier> CACHE = new ClassValue<Copier>() {
+        @Override
+        protected Copier computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final MethodHandle copier;
+    private final int fieldCount;
+
+    private Copier(Class<?> type, MethodHandle copier, int fieldCount) {
+        this.type = type;
+        this.copier = copier;
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param type The class whose fields should be copied.
+     * @return The copier for the given class.
+     */
+    static Copier of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    private static Copier create(Class<?> type) {
+        MethodHandle result = DO_NOTHING;
+        int fieldCount = 0;
+        for (Field field : FieldIterable.of(type)) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            MethodHandle fieldCopier = FieldHandles.copyHandle(field);
+            if (fieldCopier == null) {
+                return new Copier(type, null, 0);
+            }
+            result = MethodHandles.foldArguments(result, fieldCopier);
+            fieldCount++;
+        }
+        return new Copier(type, result, fieldCount);
+    }
+
+    /**
+     * @param from The object to copy from.
+     * @param to The object to copy into.
+     * @return Whether {@link #copy(Object, Object)} can be used for the given
+     *          objects.
+     */
+    boolean canCopy(Object from, Object to) {
+        return copier != null && type.isInstance(from) && type.isInstance(to);
+    }
+
+    /**
+     * Copies all non-static fields that are declared in the class or in its
+     * superclasses.
+     *
+     * @param from The object to copy from.
+     * @param to The object to copy into.
+     */
+    void copy(Object from, Object to) {
+        Counters.fieldsCopied(fieldCount);
+        try {
+            copier.invokeExact(to, from);
+        }
+        catch (Throwable e) {
+            throw FieldHandles.propagate(e);
+        }
+    }
+}
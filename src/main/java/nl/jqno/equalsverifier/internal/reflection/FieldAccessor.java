@@ -4,16 +4,22 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.util.Counters;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
 /**
  * Provides reflective access to one field of an object.
+ *
+ * Accessors that {@link ObjectAccessor} creates for all fields of a class at
+ * once read and write the field through the {@link FieldHandles} of that
+ * class, and fall back to reflection when a handle is unavailable.
  */
 public class FieldAccessor {
     private final Object object;
     private final Field field;
+    private final FieldHandles handles;
 
     /**
      * Constructor.
@@ -22,8 +28,23 @@ public class FieldAccessor {
      * @param field A field of object.
      */
     public FieldAccessor(Object object, Field field) {
+        this(object, field, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param object The object that contains the field we want to access.
+     * @param handles The handles of a field of object.
+     */
+    FieldAccessor(Object object, FieldHandles handles) {
+        this(object, handles.getField(), handles);
+    }
+
+    private FieldAccessor(Object object, Field field, FieldHandles handles) {
         this.object = object;
         this.field = field;
+        this.handles = handles;
     }
 
     /**
@@ -96,11 +117,9 @@ public class FieldAccessor {
      * @return The field's value.
      * @throws ReflectionException If the operation fails.
      */
-    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "Only called in test code, not production.")
     public Object get() {
-        field.setAccessible(true);
         try {
-            return field.get(object);
+            return getValue(object);
         }
         catch (IllegalAccessException e) {
             throw new ReflectionException(e);
@@ -117,7 +136,7 @@ public class FieldAccessor {
      * @throws ReflectionException If the operation fails.
      */
     public void set(Object value) {
-        modify(() -> field.set(object, value), true);
+        modify(() -> setValue(object, value), true);
     }
 
     /**
@@ -141,34 +160,12 @@ public class FieldAccessor {
     }
 
     private void setFieldToDefault() throws IllegalAccessException {
-        Class<?> type = field.getType();
-        if (type == boolean.class){
-            field.setBoolean(object, false);
-        }
-        else if (type == byte.class) {
-            field.setByte(object, (byte)0);
-        }
-        else if (type == char.class) {
-            field.setChar(object, '\u0000');
-        }
-        else if (type == double.class) {
-            field.setDouble(object, 0.0);
-        }
-        else if (type == float.class) {
-            field.setFloat(object, 0.0f);
-        }
-        else if (type == int.class){
-            field.setInt(object, 0);
-        }
-        else if (type == long.class) {
-            field.setLong(object, 0);
-        }
-        else if (type == short.class) {
-            field.setShort(object, (short)0);
-        }
-        else {
-            field.set(object, null);
+        if (handles != null && handles.canSetToDefault(object)) {
+            Counters.fieldWrite();
+            handles.setToDefault(object);
+            return;
         }
+        setValue(object, FieldHandles.defaultValueOf(field.getType()));
     }
 
     /**
@@ -180,7 +177,10 @@ public class FieldAccessor {
      * @throws ReflectionException If the operation fails.
      */
     public void copyTo(Object to) {
-        modify(() -> field.set(to, field.get(object)), false);
+        modify(() -> {
+            Counters.fieldsCopied(1);
+            setReflectively(to, getReflectively(object));
+        }, false);
     }
 
     /**
@@ -197,8 +197,8 @@ public class FieldAccessor {
      */
     public void changeField(PrefabValues prefabValues, TypeTag enclosingType) {
         modify(() -> {
-            Object newValue = prefabValues.giveOther(TypeTag.of(field, enclosingType), field.get(object));
-            field.set(object, newValue);
+            Object newValue = prefabValues.giveOther(TypeTag.of(field, enclosingType), getValue(object));
+            setValue(object, newValue);
         }, false);
     }
 
@@ -210,7 +210,6 @@ public class FieldAccessor {
             return;
         }
 
-        field.setAccessible(true);
         try {
             modifier.modify();
         }
@@ -219,6 +218,52 @@ public class FieldAccessor {
         }
     }
 
+    private Object getValue(Object obj) throws IllegalAccessException {
+        Counters.fieldRead();
+        if (handles != null && handles.canGet(obj)) {
+            return handles.get(obj);
+        }
+        return getReflectively(obj);
+    }
+
+    private void setValue(Object obj, Object value) throws IllegalAccessException {
+        Counters.fieldWrite();
+        if (handles != null && handles.canSet(obj, value)) {
+            handles.set(obj, value);
+            return;
+        }
+        setReflectively(obj, value);
+    }
+
+    /*
+     * Copier may already have made the field accessible, so access checks
+     * are only bypassed when reflection is actually denied access.
+     */
+    private Object getReflectively(Object obj) throws IllegalAccessException {
+        try {
+            return field.get(obj);
+        }
+        catch (IllegalAccessException e) {
+            makeAccessible();
+            return field.get(obj);
+        }
+    }
+
+    private void setReflectively(Object obj, Object value) throws IllegalAccessException {
+        try {
+            field.set(obj, value);
+        }
+        catch (IllegalAccessException e) {
+            makeAccessible();
+            field.set(obj, value);
+        }
+    }
+
+    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
+    private void makeAccessible() {
+        field.setAccessible(true);
+    }
+
     @FunctionalInterface
     private interface FieldModifier {
         void modify() throws IllegalAccessException;
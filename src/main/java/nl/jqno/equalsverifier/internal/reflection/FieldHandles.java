@@ -0,0 +1,309 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Provides access to one field through {@link MethodHandle}s.
+ *
+ * The handles for all fields of a class are created together, the first time
+ * the class is accessed, and kept in a table per class. Callers look up the
+ * table once and then walk it, so accessing a field doesn't involve a lookup.
+ * Setting a field to its default value doesn't box primitive values.
+ *
+ * If a handle can't be created, or if it can't handle a given value, the
+ * caller should fall back to reflection: {@link FieldAccessor} does this.
+ * {@link Copier} composes the handles from {@link #copyHandle(Field)} into a
+ * single handle per class.
+ */
+final class FieldHandles {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType DEFAULTER_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final MethodType COPIER_TYPE = SETTER_TYPE;
+
+    private static final ClassValue<List<FieldHandles>> DECLARED_FIELDS = new ClassValue<List<FieldHandles>>() {
+        @Override
+        protected List<FieldHandles> computeValue(Class<?> type) {
+            List<FieldHandles> result = new ArrayList<>();
+            for (Field field : FieldIterable.ofIgnoringSuper(type)) {
+                result.add(create(field));
+            }
+            return Collections.unmodifiableList(result);
+        }
+    };
+
+    private static final ClassValue<List<FieldHandles>> ALL_FIELDS = new ClassValue<List<FieldHandles>>() {
+        @Override
+        protected List<FieldHandles> computeValue(Class<?> type) {
+            List<FieldHandles> result = new ArrayList<>(DECLARED_FIELDS.get(type));
+            for (Class<?> c : SuperclassIterable.of(type)) {
+                result.addAll(DECLARED_FIELDS.get(c));
+            }
+            return Collections.unmodifiableList(result);
+        }
+    };
+
+    private final Field field;
+    private final Class<?> valueType;
+    private final boolean isStatic;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle defaulter;
+
+    private FieldHandles(Field field, MethodHandle getter, MethodHandle setter, MethodHandle defaulter) {
+        this.field = field;
+        this.valueType = MethodType.methodType(field.getType()).wrap().returnType();
+        this.isStatic = Modifier.isStatic(field.getModifiers());
+        this.getter = getter;
+        this.setter = setter;
+        this.defaulter = defaulter;
+    }
+
+    /**
+     * Returns the handles for all fields declared in {@code type} and in its
+     * superclasses, in the same order as {@link FieldIterable#of(Class)}.
+     *
+     * @param type The class that contains the fields.
+     * @return The handles for the fields.
+     */
+    static List<FieldHandles> of(Class<?> type) {
+        return ALL_FIELDS.get(type);
+    }
+
+    /**
+     * Returns the handles for all fields declared in {@code type}, but not
+     * for those declared in its superclasses, in the same order as
+     * {@link FieldIterable#ofIgnoringSuper(Class)}.
+     *
+     * @param type The class that contains the fields.
+     * @return The handles for the fields.
+     */
+    static List<FieldHandles> ofIgnoringSuper(Class<?> type) {
+        return DECLARED_FIELDS.get(type);
+    }
+
+    private static FieldHandles create(Field field) {
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        MethodHandle exactGetter = unreflect(field, MethodHandles.lookup()::unreflectGetter);
+        if (exactGetter == null) {
+            return new FieldHandles(field, null, null, null);
+        }
+        exactGetter = withReceiver(exactGetter, isStatic);
+
+        MethodHandle exactSetter = null;
+        if (!isStatic || !Modifier.isFinal(field.getModifiers())) {
+            exactSetter = unreflect(field, MethodHandles.lookup()::unreflectSetter);
+        }
+        if (exactSetter == null) {
+            return new FieldHandles(field, exactGetter.asType(GETTER_TYPE), null, null);
+        }
+        exactSetter = withReceiver(exactSetter, isStatic);
+
+        MethodHandle defaulter = MethodHandles.insertArguments(exactSetter, 1, defaultValueOf(field.getType()));
+        return new FieldHandles(field,
+                exactGetter.asType(GETTER_TYPE),
+                exactSetter.asType(SETTER_TYPE),
+                defaulter.asType(DEFAULTER_TYPE));
+    }
+
+    private static MethodHandle withReceiver(MethodHandle handle, boolean isStatic) {
+        return isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+    }
+
+    /**
+     * Returns the value that a field of the given type has when it isn't
+     * initialized.
+     *
+     * @param type The type of the field.
+     * @return null, or 0 or false for primitive types.
+     */
+    static Object defaultValueOf(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        else if (type == byte.class) {
+            return (byte)0;
+        }
+        else if (type == char.class) {
+            return '\u0000';
+        }
+        else if (type == double.class) {
+            return 0.0;
+        }
+        else if (type == float.class) {
+            return 0.0f;
+        }
+        else if (type == int.class) {
+            return 0;
+        }
+        else if (type == long.class) {
+            return 0L;
+        }
+        else if (type == short.class) {
+            return (short)0;
+        }
+        return null;
+    }
+
+    /**
+     * Creates a handle that copies the value of a non-static field from its
+     * second argument into its first argument, without boxing it.
+     *
+     * @param field The field to copy. Is made accessible when a handle can't
+     *          be created otherwise.
+     * @return A handle that copies the field, or null if there is none.
+     */
+    static MethodHandle copyHandle(Field field) {
+        MethodHandle getter = unreflect(field, MethodHandles.lookup()::unreflectGetter);
+        if (getter == null) {
+            return null;
+        }
+        MethodHandle setter = unreflect(field, MethodHandles.lookup()::unreflectSetter);
+        if (setter == null) {
+            return null;
+        }
+        return MethodHandles.filterArguments(setter, 1, getter).asType(COPIER_TYPE);
+    }
+
+    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
+    private static MethodHandle unreflect(Field field, Unreflector unreflector) {
+        try {
+            return unreflector.unreflect(field);
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            // Fall through and try again after making the field accessible.
+        }
+        try {
+            field.setAccessible(true);
+            return unreflector.unreflect(field);
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            // Leave it to reflection.
+            return null;
+        }
+    }
+
+    /**
+     * @return The field that the handles access.
+     */
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * @param object The object to read the field from.
+     * @return Whether {@link #get(Object)} can be used for the given object.
+     */
+    boolean canGet(Object object) {
+        return getter != null && acceptsReceiver(object);
+    }
+
+    /**
+     * @param object The object to read the field from.
+     * @return The field's value; primitive values are boxed.
+     */
+    Object get(Object object) {
+        try {
+            return (Object)getter.invokeExact(object);
+        }
+        catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * @param object The object in which to set the field.
+     * @param value The value to set the field to.
+     * @return Whether {@link #set(Object, Object)} can be used for the given
+     *          object and value.
+     */
+    boolean canSet(Object object, Object value) {
+        return setter != null && acceptsReceiver(object) && acceptsValue(value);
+    }
+
+    /**
+     * @param object The object in which to set the field.
+     * @param value The value to set the field to.
+     */
+    void set(Object object, Object value) {
+        try {
+            setter.invokeExact(object, value);
+        }
+        catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * @param object The object in which to set the field to its default
+     *          value.
+     * @return Whether {@link #setToDefault(Object)} can be used for the given
+     *          object.
+     */
+    boolean canSetToDefault(Object object) {
+        return defaulter != null && acceptsReceiver(object);
+    }
+
+    /**
+     * Sets the field to null, or to 0 or false for primitive fields, without
+     * boxing.
+     *
+     * @param object The object in which to set the field to its default
+     *          value.
+     */
+    void setToDefault(Object object) {
+        try {
+            defaulter.invokeExact(object);
+        }
+        catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    private boolean acceptsReceiver(Object object) {
+        return isStatic || field.getDeclaringClass().isInstance(object);
+    }
+
+    private boolean acceptsValue(Object value) {
+        if (value == null) {
+            return !field.getType().isPrimitive();
+        }
+        if (field.getType().isPrimitive()) {
+            // Reflection would widen, for instance, an Integer into a long field; leave that to reflection.
+            return valueType == value.getClass();
+        }
+        return valueType.isInstance(value);
+    }
+
+    /**
+     * Rethrows unchecked exceptions and errors thrown by a handle as they
+     * are, and wraps checked exceptions.
+     *
+     * @param e The exception thrown by a handle.
+     * @return The exception to throw instead.
+     */
+    static RuntimeException propagate(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error)e;
+        }
+        if (e instanceof RuntimeException) {
+            return (RuntimeException)e;
+        }
+        return new ReflectionException(e);
+    }
+
+    @FunctionalInterface
+    private interface Unreflector {
+        MethodHandle unreflect(Field field) throws IllegalAccessException;
+    }
+}
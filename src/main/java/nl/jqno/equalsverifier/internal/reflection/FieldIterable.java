@@ -2,14 +2,37 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 /**
  * Iterable to iterate over all declared fields in a class and, if needed,
  * over all declared fields of its superclasses.
+ *
+ * The fields of each class are looked up only once, and shared between all
+ * FieldIterables. Because they're stored in a {@link ClassValue}, they don't
+ * prevent the class from being unloaded.
  */
 public final class FieldIterable implements Iterable<Field> {
+    private static final ClassValue<List<Field>> DECLARED_FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            return Collections.unmodifiableList(addFieldsFor(type));
+        }
+    };
+
+    private static final ClassValue<List<Field>> ALL_FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> result = new ArrayList<>(DECLARED_FIELDS.get(type));
+            for (Class<?> c : SuperclassIterable.of(type)) {
+                result.addAll(DECLARED_FIELDS.get(c));
+            }
+            return Collections.unmodifiableList(result);
+        }
+    };
+
     private final Class<?> type;
     private final boolean includeSuperclasses;
 
@@ -55,24 +78,11 @@ public final class FieldIterable implements Iterable<Field> {
      */
     @Override
     public Iterator<Field> iterator() {
-        return createFieldList().iterator();
-    }
-
-    private List<Field> createFieldList() {
-        List<Field> result = new ArrayList<>();
-
-        result.addAll(addFieldsFor(type));
-
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                result.addAll(addFieldsFor(c));
-            }
-        }
-
-        return result;
+        ClassValue<List<Field>> fields = includeSuperclasses ? ALL_FIELDS : DECLARED_FIELDS;
+        return fields.get(type).iterator();
     }
 
-    private List<Field> addFieldsFor(Class<?> c) {
+    private static List<Field> addFieldsFor(Class<?> c) {
         List<Field> result = new ArrayList<>();
 
         for (Field field : c.getDeclaredFields()) {
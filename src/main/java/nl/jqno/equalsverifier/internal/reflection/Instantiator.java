@@ -3,13 +3,18 @@ package nl.jqno.equalsverifier.internal.reflection;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import nl.jqno.equalsverifier.internal.jfr.Jfr;
+import nl.jqno.equalsverifier.internal.util.Counters;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.*;
 
@@ -24,15 +29,54 @@ public final class Instantiator<T> {
             Arrays.asList("java.", "javax.", "sun.", "com.sun.", "org.w3c.dom.");
     private static final String FALLBACK_PACKAGE_NAME = getPackageName(Instantiator.class);
 
+    private static final boolean IS_JAVA_8 = System.getProperty("java.version").startsWith("1.");
+
+    /*
+     * Dynamic subclasses are normally defined next to their superclass, so
+     * caching them in a ClassValue on the superclass doesn't keep anything
+     * else alive. Subclasses of system classes are defined next to this class
+     * instead; since system classes are never unloaded, a regular map is
+     * used for them, to avoid pinning this class's ClassLoader to them.
+     */
+    private static final ClassValue<Class<?>> DYNAMIC_SUBCLASSES = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            return generateDynamicSubclass(type);
+        }
+    };
+    private static final Map<Class<?>, Class<?>> SYSTEM_DYNAMIC_SUBCLASSES = new ConcurrentHashMap<>();
+
+    private static final ClassValue<ClassLoadingStrategy<? super ClassLoader>> CLASS_LOADING_STRATEGIES =
+        new ClassValue<ClassLoadingStrategy<? super ClassLoader>>() {
+            @Override
+            protected ClassLoadingStrategy<? super ClassLoader> computeValue(Class<?> context) {
+                return createClassLoadingStrategy(context);
+            }
+        };
+
+    /*
+     * Objenesis's own cache is disabled: it's keyed by class name and holds
+     * on to the classes. The ClassValue below caches the instantiators
+     * instead, without keeping the classes from being unloaded. As with the
+     * dynamic subclasses, the instantiators for system classes are kept in a
+     * regular map.
+     */
+    private static final Objenesis OBJENESIS = new ObjenesisStd(false);
+    private static final ClassValue<ObjectInstantiator<?>> INSTANTIATORS = new ClassValue<ObjectInstantiator<?>>() {
+        @Override
+        protected ObjectInstantiator<?> computeValue(Class<?> type) {
+            return OBJENESIS.getInstantiatorOf(type);
+        }
+    };
+    private static final Map<Class<?>, ObjectInstantiator<?>> SYSTEM_INSTANTIATORS = new ConcurrentHashMap<>();
+
     private final Class<T> type;
-    private Objenesis objenesis;
 
     /**
      * Private constructor. Call {@link #of(Class)} to instantiate.
      */
     private Instantiator(Class<T> type) {
         this.type = type;
-        this.objenesis = new ObjenesisStd();
     }
 
     /**
@@ -59,7 +103,7 @@ public final class Instantiator<T> {
      * @return An object of type T.
      */
     public T instantiate() {
-        return objenesis.newInstance(type);
+        return newInstance(type);
     }
 
     /**
@@ -70,30 +114,60 @@ public final class Instantiator<T> {
      */
     public T instantiateAnonymousSubclass() {
         Class<T> proxyClass = giveDynamicSubclass(type);
-        return objenesis.newInstance(proxyClass);
+        return newInstance(proxyClass);
     }
 
     @SuppressWarnings("unchecked")
-    private static synchronized <S> Class<S> giveDynamicSubclass(Class<S> superclass) {
+    private static <S> S newInstance(Class<S> type) {
+        Counters.instantiation();
+        return ((ObjectInstantiator<S>)giveInstantiator(type)).newInstance();
+    }
+
+    private static ObjectInstantiator<?> giveInstantiator(Class<?> type) {
+        if (isSystemClass(type.getName())) {
+            return SYSTEM_INSTANTIATORS.computeIfAbsent(type, OBJENESIS::getInstantiatorOf);
+        }
+        return INSTANTIATORS.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> Class<S> giveDynamicSubclass(Class<S> superclass) {
+        if (isSystemClass(superclass.getName())) {
+            return (Class<S>)SYSTEM_DYNAMIC_SUBCLASSES.computeIfAbsent(superclass, Instantiator::generateDynamicSubclass);
+        }
+        return (Class<S>)DYNAMIC_SUBCLASSES.get(superclass);
+    }
+
+    private static Class<?> generateDynamicSubclass(Class<?> superclass) {
+        return Jfr.recorder().dynamicSubclass(superclass, () -> defineDynamicSubclass(superclass));
+    }
+
+    private static Class<?> defineDynamicSubclass(Class<?> superclass) {
+        Counters.dynamicSubclass();
         boolean isSystemClass = isSystemClass(superclass.getName());
 
         String namePrefix = isSystemClass ? FALLBACK_PACKAGE_NAME : getPackageName(superclass);
         String name = namePrefix + "." + superclass.getSimpleName() + "$$DynamicSubclass$" + superclass.hashCode();
 
-        Class<S> existsAlready = (Class<S>)classForName(name);
-        if (existsAlready != null) {
-            return existsAlready;
-        }
-
         Class<?> context = isSystemClass ? Instantiator.class : superclass;
-        ClassLoadingStrategy<? super ClassLoader> cs = getClassLoadingStrategy(context);
-        return (Class<S>)new ByteBuddy()
-                .with(TypeValidation.DISABLED)
-                .subclass(superclass)
-                .name(name)
-                .make()
-                .load(context.getClassLoader(), cs)
-                .getLoaded();
+        ClassLoader loader = context.getClassLoader();
+        try {
+            return new ByteBuddy()
+                    .with(TypeValidation.DISABLED)
+                    .subclass(superclass)
+                    .name(name)
+                    .make()
+                    .load(loader, getClassLoadingStrategy(context))
+                    .getLoaded();
+        }
+        catch (LinkageError | IllegalStateException e) {
+            // Another thread may have defined the same class at the same time.
+            Class<?> existsAlready = classForName(name, loader);
+            if (existsAlready != null) {
+                return existsAlready;
+            }
+            throw e;
+        }
     }
 
     private static String getPackageName(Class<?> type) {
@@ -102,9 +176,20 @@ public final class Instantiator<T> {
         return (dot != -1) ? cn.substring(0, dot).intern() : "";
     }
 
-    @SuppressWarnings("unchecked")
-    public static <S> ClassLoadingStrategy<? super ClassLoader> getClassLoadingStrategy(Class<S> context) {
-        if (System.getProperty("java.version").startsWith("1.")) {
+    /**
+     * Returns a strategy to load classes in the same package and ClassLoader
+     * as the given context class. The strategy is determined only once per
+     * context class.
+     *
+     * @param context The class next to which new classes will be loaded.
+     * @return A ClassLoadingStrategy.
+     */
+    public static ClassLoadingStrategy<? super ClassLoader> getClassLoadingStrategy(Class<?> context) {
+        return CLASS_LOADING_STRATEGIES.get(context);
+    }
+
+    private static ClassLoadingStrategy<? super ClassLoader> createClassLoadingStrategy(Class<?> context) {
+        if (IS_JAVA_8) {
             return ClassLoadingStrategy.Default.INJECTION.with(context.getProtectionDomain());
         }
         else {
@@ -4,6 +4,8 @@ import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Wraps an object to provide reflective access to it. ObjectAccessor can
@@ -68,6 +70,25 @@ public final class ObjectAccessor<T> {
         return new FieldAccessor(object, field);
     }
 
+    /**
+     * Returns a FieldAccessor for each field of the wrapped object that is
+     * declared in T and in its superclasses, in the same order as
+     * {@link FieldIterable#of(Class)}.
+     *
+     * Unlike those from {@link #fieldAccessorFor(Field)}, these accessors use
+     * the {@link FieldHandles} that are created once per class.
+     *
+     * @return A FieldAccessor for each field of the wrapped object.
+     */
+    public List<FieldAccessor> fieldAccessors() {
+        List<FieldHandles> handles = FieldHandles.of(type);
+        List<FieldAccessor> result = new ArrayList<>(handles.size());
+        for (FieldHandles h : handles) {
+            result.add(new FieldAccessor(object, h));
+        }
+        return result;
+    }
+
     /**
      * Creates a copy of the wrapped object.
      *
@@ -111,7 +132,24 @@ public final class ObjectAccessor<T> {
         return copyInto(copy);
     }
 
-    private <S> S copyInto(S copy) {
+    /**
+     * Copies the fields of the wrapped object into the specified object,
+     * overwriting the values that it had.
+     *
+     * Note: it does a "shallow" copy. Reference fields are not copied
+     * recursively.
+     *
+     * @param copy An instance of T or of a subclass of T.
+     * @param <S> The type of the copy.
+     * @return The copy.
+     */
+    public <S extends T> S copyInto(S copy) {
+        Copier copier = Copier.of(type);
+        if (copier.canCopy(object, copy)) {
+            copier.copy(object, copy);
+            return copy;
+        }
+
         for (Field field : FieldIterable.of(type)) {
             FieldAccessor accessor = new FieldAccessor(object, field);
             accessor.copyTo(copy);
@@ -138,8 +176,8 @@ public final class ObjectAccessor<T> {
      *                      contain.
      */
     public void scramble(PrefabValues prefabValues, TypeTag enclosingType) {
-        for (Field field : FieldIterable.of(type)) {
-            FieldAccessor accessor = new FieldAccessor(object, field);
+        for (FieldHandles handles : FieldHandles.of(type)) {
+            FieldAccessor accessor = new FieldAccessor(object, handles);
             accessor.changeField(prefabValues, enclosingType);
         }
     }
@@ -163,8 +201,8 @@ public final class ObjectAccessor<T> {
      *                      contain.
      */
     public void shallowScramble(PrefabValues prefabValues, TypeTag enclosingType) {
-        for (Field field : FieldIterable.ofIgnoringSuper(type)) {
-            FieldAccessor accessor = new FieldAccessor(object, field);
+        for (FieldHandles handles : FieldHandles.ofIgnoringSuper(type)) {
+            FieldAccessor accessor = new FieldAccessor(object, handles);
             accessor.changeField(prefabValues, enclosingType);
         }
     }
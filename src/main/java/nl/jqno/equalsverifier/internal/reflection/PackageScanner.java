@@ -0,0 +1,81 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.*;
+
+/**
+ * Finds the classes in a package, so they can be verified all at once.
+ */
+public final class PackageScanner {
+    private static final String CLASS_SUFFIX = ".class";
+
+    private PackageScanner() {
+        // Do not instantiate
+    }
+
+    /**
+     * Finds all top-level classes in the given package, excluding classes
+     * whose name ends with "Test". Sub-packages are not scanned.
+     *
+     * Only classes that live in a directory on the classpath can be found;
+     * classes inside jar files are not found. The classes are loaded through
+     * the context ClassLoader, but they are not initialized.
+     *
+     * @param packageName The package to scan.
+     * @return The classes in the given package, sorted by name.
+     */
+    public static List<Class<?>> getClassesIn(String packageName) {
+        String path = packageName.replace('.', '/');
+        ClassLoader loader = getClassLoader();
+        List<Class<?>> result = new ArrayList<>();
+        for (File dir : getDirs(path, loader)) {
+            File[] files = dir.listFiles();
+            if (files == null) {
+                continue;
+            }
+            for (File f : files) {
+                String name = f.getName();
+                if (!f.isFile() || !name.endsWith(CLASS_SUFFIX) || name.contains("$")) {
+                    continue;
+                }
+                String className = name.substring(0, name.length() - CLASS_SUFFIX.length());
+                if (className.endsWith("Test") || "package-info".equals(className)) {
+                    continue;
+                }
+                Class<?> type = Util.classForName(packageName + "." + className, loader);
+                if (type != null) {
+                    result.add(type);
+                }
+            }
+        }
+        result.sort(Comparator.comparing(Class::getName));
+        return result;
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader result = Thread.currentThread().getContextClassLoader();
+        return result != null ? result : PackageScanner.class.getClassLoader();
+    }
+
+    private static List<File> getDirs(String path, ClassLoader loader) {
+        List<File> result = new ArrayList<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    result.add(new File(url.toURI()));
+                }
+            }
+        }
+        catch (IOException | URISyntaxException e) {
+            throw new ReflectionException(e);
+        }
+        return result;
+    }
+}
@@ -1,13 +1,31 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 /**
  * Iterable to iterate over all superclasses of a class.
+ *
+ * The superclasses of each class are determined only once, and shared
+ * between all SuperclassIterables through a {@link ClassValue}.
  */
 public final class SuperclassIterable<T> implements Iterable<Class<? super T>> {
+    private static final ClassValue<List<Class<?>>> SUPERCLASSES = new ClassValue<List<Class<?>>>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            return Collections.unmodifiableList(createClassList(type, false));
+        }
+    };
+
+    private static final ClassValue<List<Class<?>>> SUPERCLASSES_INCLUDING_SELF = new ClassValue<List<Class<?>>>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            return Collections.unmodifiableList(createClassList(type, true));
+        }
+    };
+
     private final Class<T> type;
     private final boolean includeSelf;
 
@@ -51,16 +69,19 @@ public final class SuperclassIterable<T> implements Iterable<Class<? super T>> {
      * @return The iterator.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public Iterator<Class<? super T>> iterator() {
-        return createClassList().iterator();
+        ClassValue<List<Class<?>>> classes = includeSelf ? SUPERCLASSES_INCLUDING_SELF : SUPERCLASSES;
+        List<?> result = classes.get(type);
+        return ((List<Class<? super T>>)result).iterator();
     }
 
-    private List<Class<? super T>> createClassList() {
-        List<Class<? super T>> result = new ArrayList<>();
+    private static List<Class<?>> createClassList(Class<?> type, boolean includeSelf) {
+        List<Class<?>> result = new ArrayList<>();
         if (includeSelf) {
             result.add(type);
         }
-        Class<? super T> i = type.getSuperclass();
+        Class<?> i = type.getSuperclass();
         while (i != null && !i.equals(Object.class)) {
             result.add(i);
             i = i.getSuperclass();
@@ -27,6 +27,25 @@ public final class Util {
         }
     }
 
+    /**
+     * Helper method to resolve a Class of a given name, using the given
+     * ClassLoader. The class is not initialized.
+     *
+     * @param className The fully qualified name of the class to resolve.
+     * @param loader The ClassLoader to resolve the class with.
+     * @param <T> The type of the class to resolve.
+     * @return The corresponding class if it exists, null otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Class<T> classForName(String className, ClassLoader loader) {
+        try {
+            return (Class<T>)Class.forName(className, false, loader);
+        }
+        catch (ClassNotFoundException | VerifyError e) {
+            return null;
+        }
+    }
+
     /**
      * Helper method to create an array of Classes.
      *
@@ -2,19 +2,25 @@ package nl.jqno.equalsverifier.internal.reflection.annotations;
 
 import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.pool.TypePool;
 import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.function.Consumer;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.setOf;
 
 public class AnnotationCacheBuilder {
 
+    /*
+     * Parsed class files are shared by all verifications in the JVM. The
+     * pools only hold weak references to their ClassLoaders, so they don't
+     * keep them from being unloaded.
+     */
+    private static final TypePool BOOT_TYPE_POOL = TypePool.Default.ofBootLoader();
+    private static final Map<ClassLoader, TypePool> TYPE_POOLS = Collections.synchronizedMap(new WeakHashMap<>());
+
     private final List<Annotation> supportedAnnotations;
     private final Set<String> ignoredAnnotations;
 
@@ -29,7 +35,7 @@ public class AnnotationCacheBuilder {
         }
 
         try {
-            TypePool pool = TypePool.Default.of(type.getClassLoader());
+            TypePool pool = typePoolFor(type.getClassLoader());
             TypeDescription typeDescription = pool.describe(type.getName()).resolve();
 
             visitType(setOf(type), cache, typeDescription, false);
@@ -42,6 +48,14 @@ public class AnnotationCacheBuilder {
         }
     }
 
+    private static TypePool typePoolFor(ClassLoader loader) {
+        if (loader == null) {
+            return BOOT_TYPE_POOL;
+        }
+        return TYPE_POOLS.computeIfAbsent(loader,
+            l -> TypePool.Default.of(ClassFileLocator.ForClassLoader.WeaklyReferenced.of(l)));
+    }
+
     private void visitType(Set<Class<?>> types, AnnotationCache cache, TypeDescription typeDescription, boolean inheriting) {
         visitClass(types, cache, typeDescription, inheriting);
         visitFields(types, cache, typeDescription, inheriting);
@@ -68,7 +68,7 @@ public class CachedHashCodeInitializer<T> {
         if (!passthrough) {
             recomputeCachedHashCode(object);
         }
-        return object.hashCode();
+        return Invocations.invokeHashCode(object);
     }
 
     private void recomputeCachedHashCode(Object object) {
@@ -1,8 +1,7 @@
 package nl.jqno.equalsverifier.internal.util;
 
+import nl.jqno.equalsverifier.VerificationListener;
 import nl.jqno.equalsverifier.Warning;
-import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
-import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
@@ -31,12 +30,16 @@ public final class Configuration<T> {
     private final List<T> equalExamples;
     private final List<T> unequalExamples;
 
+    private final Instrumentation instrumentation;
+    private final ViolationCollector violationCollector;
+
     // CHECKSTYLE: ignore ParameterNumber for 1 line.
     private Configuration(Class<T> type, TypeTag typeTag, ClassAccessor<T> classAccessor, PrefabValues prefabValues,
                 Set<String> ignoredFields, Set<String> nonnullFields, AnnotationCache annotationCache,
                 CachedHashCodeInitializer<T> cachedHashCodeInitializer, boolean hasRedefinedSuperclass,
                 Class<? extends T> redefinedSubclass, boolean usingGetClass, EnumSet<Warning> warningsToSuppress,
-                List<T> equalExamples, List<T> unequalExamples) {
+                List<T> equalExamples, List<T> unequalExamples, Instrumentation instrumentation,
+                ViolationCollector violationCollector) {
         this.type = type;
         this.typeTag = typeTag;
         this.classAccessor = classAccessor;
@@ -51,26 +54,29 @@ public final class Configuration<T> {
         this.warningsToSuppress = warningsToSuppress;
         this.equalExamples = equalExamples;
         this.unequalExamples = unequalExamples;
+        this.instrumentation = instrumentation;
+        this.violationCollector = violationCollector;
     }
 
     // CHECKSTYLE: ignore ParameterNumber for 1 line.
     public static <T> Configuration<T> build(Class<T> type, Set<String> excludedFields, Set<String> includedFields,
                 Set<String> nonnullFields, CachedHashCodeInitializer<T> cachedHashCodeInitializer, boolean hasRedefinedSuperclass,
                 Class<? extends T> redefinedSubclass, boolean usingGetClass, EnumSet<Warning> warningsToSuppress,
-                FactoryCache factoryCache, Set<String> ignoredAnnotationClassNames, Set<String> actualFields,
-                List<T> equalExamples, List<T> unequalExamples) {
+                SharedCaches sharedCaches, Set<String> ignoredAnnotationClassNames, Set<String> actualFields,
+                List<T> equalExamples, List<T> unequalExamples, Instrumentation instrumentation,
+                ViolationCollector violationCollector) {
 
         TypeTag typeTag = new TypeTag(type);
-        FactoryCache cache = JavaApiPrefabValues.build().merge(factoryCache);
-        PrefabValues prefabValues = new PrefabValues(cache);
+        PrefabValues prefabValues = sharedCaches.getPrefabValues();
         ClassAccessor<T> classAccessor = ClassAccessor.of(type, prefabValues);
-        AnnotationCache annotationCache = buildAnnotationCache(type, ignoredAnnotationClassNames);
+        AnnotationCache annotationCache =
+            instrumentation.phase(VerificationListener.ANNOTATIONS, () -> buildAnnotationCache(type, ignoredAnnotationClassNames));
         Set<String> ignoredFields = determineIgnoredFields(type, annotationCache, warningsToSuppress, excludedFields, includedFields, actualFields);
         List<T> unequals = ensureUnequalExamples(typeTag, classAccessor, unequalExamples);
 
         return new Configuration<>(type, typeTag, classAccessor, prefabValues, ignoredFields, nonnullFields,
             annotationCache, cachedHashCodeInitializer, hasRedefinedSuperclass, redefinedSubclass, usingGetClass,
-            warningsToSuppress, equalExamples, unequals);
+            warningsToSuppress, equalExamples, unequals, instrumentation, violationCollector);
     }
 
     private static <T> AnnotationCache buildAnnotationCache(Class<T> type, Set<String> ignoredAnnotationClassNames) {
@@ -182,4 +188,12 @@ public final class Configuration<T> {
     public Set<String> getIgnoredFields() {
         return Collections.unmodifiableSet(ignoredFields);
     }
+
+    public Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    public ViolationCollector getViolationCollector() {
+        return violationCollector;
+    }
 }
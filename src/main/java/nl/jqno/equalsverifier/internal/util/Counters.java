@@ -0,0 +1,227 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts what a verification does, such as how many objects it instantiates
+ * and how many fields it reads.
+ *
+ * A verification runs on a single thread, so the counters for the
+ * verification that is running on the current thread are kept in a
+ * ThreadLocal. The static methods increment them; when no verification is
+ * counting, they only read a single field and return.
+ */
+public final class Counters {
+    private static final ThreadLocal<Counters> CURRENT = new ThreadLocal<>();
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    private final Counters previous;
+    private final long allocatedBytesAtStart;
+
+    private long prefabValueHits;
+    private long prefabValueMisses;
+    private long instantiations;
+    private long dynamicSubclasses;
+    private long fieldReads;
+    private long fieldWrites;
+    private long equalsInvocations;
+    private long hashCodeInvocations;
+    private long allocatedBytes = -1;
+
+    private Counters(Counters previous) {
+        this.previous = previous;
+        this.allocatedBytesAtStart = currentThreadAllocatedBytes();
+    }
+
+    /**
+     * Starts counting on the current thread.
+     *
+     * @return The counters, which must be stopped on the same thread.
+     */
+    public static Counters start() {
+        Counters result = new Counters(CURRENT.get());
+        CURRENT.set(result);
+        ACTIVE.incrementAndGet();
+        return result;
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public Counters stop() {
+        long bytes = currentThreadAllocatedBytes();
+        if (bytes >= 0 && allocatedBytesAtStart >= 0) {
+            allocatedBytes = bytes - allocatedBytesAtStart;
+        }
+
+        ACTIVE.decrementAndGet();
+        if (previous == null) {
+            CURRENT.remove();
+        }
+        else {
+            CURRENT.set(previous);
+        }
+        return this;
+    }
+
+    private static Counters current() {
+        return ACTIVE.get() == 0 ? null : CURRENT.get();
+    }
+
+    /**
+     * Counts prefab values that were found in the cache.
+     */
+    public static void prefabValueHit() {
+        Counters c = current();
+        if (c != null) {
+            c.prefabValueHits++;
+        }
+    }
+
+    /**
+     * Counts prefab values that had to be created.
+     */
+    public static void prefabValueMiss() {
+        Counters c = current();
+        if (c != null) {
+            c.prefabValueMisses++;
+        }
+    }
+
+    /**
+     * Counts an object that was instantiated through Objenesis.
+     */
+    public static void instantiation() {
+        Counters c = current();
+        if (c != null) {
+            c.instantiations++;
+        }
+    }
+
+    /**
+     * Counts a dynamic subclass that was generated.
+     */
+    public static void dynamicSubclass() {
+        Counters c = current();
+        if (c != null) {
+            c.dynamicSubclasses++;
+        }
+    }
+
+    /**
+     * Counts a field that was read reflectively.
+     */
+    public static void fieldRead() {
+        Counters c = current();
+        if (c != null) {
+            c.fieldReads++;
+        }
+    }
+
+    /**
+     * Counts a field that was written reflectively.
+     */
+    public static void fieldWrite() {
+        Counters c = current();
+        if (c != null) {
+            c.fieldWrites++;
+        }
+    }
+
+    /**
+     * Counts the fields that were copied from one object into another, as a
+     * read and a write for each field.
+     *
+     * @param count The number of fields.
+     */
+    public static void fieldsCopied(int count) {
+        Counters c = current();
+        if (c != null) {
+            c.fieldReads += count;
+            c.fieldWrites += count;
+        }
+    }
+
+    /**
+     * Counts an invocation of {@code equals} on the class under test.
+     */
+    public static void equalsInvocation() {
+        Counters c = current();
+        if (c != null) {
+            c.equalsInvocations++;
+        }
+    }
+
+    /**
+     * Counts an invocation of {@code hashCode} on the class under test.
+     */
+    public static void hashCodeInvocation() {
+        Counters c = current();
+        if (c != null) {
+            c.hashCodeInvocations++;
+        }
+    }
+
+    public long getPrefabValueHits() {
+        return prefabValueHits;
+    }
+
+    public long getPrefabValueMisses() {
+        return prefabValueMisses;
+    }
+
+    public long getInstantiations() {
+        return instantiations;
+    }
+
+    public long getDynamicSubclasses() {
+        return dynamicSubclasses;
+    }
+
+    public long getFieldReads() {
+        return fieldReads;
+    }
+
+    public long getFieldWrites() {
+        return fieldWrites;
+    }
+
+    public long getEqualsInvocations() {
+        return equalsInvocations;
+    }
+
+    public long getHashCodeInvocations() {
+        return hashCodeInvocations;
+    }
+
+    /**
+     * @return The number of bytes that the current thread allocated between
+     *          {@link #start()} and {@link #stop()}, or -1 if the JVM can't
+     *          measure that.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                return -1;
+            }
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+            if (!sunBean.isThreadAllocatedMemorySupported() || !sunBean.isThreadAllocatedMemoryEnabled()) {
+                return -1;
+            }
+            return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        catch (LinkageError e) {
+            // com.sun.management isn't available on every JVM
+            return -1;
+        }
+    }
+}
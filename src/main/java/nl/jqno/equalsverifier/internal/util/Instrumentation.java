@@ -0,0 +1,193 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.internal.jfr.Jfr;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Sends the events of a single verification to the registered
+ * {@link VerificationListener}s.
+ *
+ * Besides the listeners that were registered, the events are also sent to
+ * the JDK Flight Recorder, if a recording has enabled them. If there are
+ * neither, {@link #NONE} is used, which doesn't read the clock at all.
+ *
+ * If a listener throws on a finish event, the remaining listeners still
+ * receive the event, so every listener sees as many finish events as start
+ * events. If the verification itself has already failed, the listener's
+ * exception is added to the verification's failure as a suppressed
+ * exception, so the failure isn't lost. Otherwise, the first exception is
+ * rethrown after all listeners have received the event.
+ */
+public final class Instrumentation {
+    /**
+     * Instrumentation without listeners.
+     */
+    public static final Instrumentation NONE = new Instrumentation(null, Collections.emptyList());
+
+    private final Class<?> type;
+    private final List<VerificationListener> listeners;
+
+    private Instrumentation(Class<?> type, List<VerificationListener> listeners) {
+        this.type = type;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param type The class under test.
+     * @param listeners The listeners that receive the events.
+     * @return An Instrumentation for the given class, or {@link #NONE} if
+     *          there are no listeners.
+     */
+    public static Instrumentation of(Class<?> type, List<VerificationListener> listeners) {
+        VerificationListener recorder = Jfr.recorder().verificationListener();
+        if (listeners.isEmpty() && recorder == null) {
+            return NONE;
+        }
+
+        List<VerificationListener> all = new ArrayList<>(listeners);
+        if (recorder != null) {
+            all.add(recorder);
+        }
+        return new Instrumentation(type, all);
+    }
+
+    /**
+     * @return Whether there are any listeners.
+     */
+    public boolean isEnabled() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Runs the verification and reports its duration and outcome.
+     *
+     * @param verification The verification to run.
+     */
+    public void verification(Runnable verification) {
+        if (!isEnabled()) {
+            verification.run();
+            return;
+        }
+
+        listeners.forEach(l -> l.verificationStarted(type));
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            verification.run();
+        }
+        catch (Throwable e) {
+            failure = e;
+            throw e;
+        }
+        finally {
+            long duration = System.nanoTime() - start;
+            boolean successful = failure == null;
+            finished(failure, l -> l.verificationFinished(type, duration, successful));
+        }
+    }
+
+    /**
+     * Runs a phase of the verification and reports its duration.
+     *
+     * @param phase The name of the phase.
+     * @param action The phase to run.
+     */
+    public void phase(String phase, Runnable action) {
+        phase(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a phase of the verification and reports its duration.
+     *
+     * @param <R> The result of the phase.
+     * @param phase The name of the phase.
+     * @param action The phase to run.
+     * @return The result of {@code action}.
+     */
+    public <R> R phase(String phase, Supplier<R> action) {
+        if (!isEnabled()) {
+            return action.get();
+        }
+
+        listeners.forEach(l -> l.phaseStarted(type, phase));
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return action.get();
+        }
+        catch (Throwable e) {
+            failure = e;
+            throw e;
+        }
+        finally {
+            long duration = System.nanoTime() - start;
+            finished(failure, l -> l.phaseFinished(type, phase, duration));
+        }
+    }
+
+    /**
+     * Runs a check on a field and reports its duration.
+     *
+     * Callers in a loop should check {@link #isEnabled()} first, so they
+     * don't have to build the names and the action when nobody listens.
+     *
+     * @param check The name of the check.
+     * @param field The name of the field.
+     * @param action The check to run.
+     */
+    public void fieldCheck(String check, String field, Runnable action) {
+        if (!isEnabled()) {
+            action.run();
+            return;
+        }
+
+        listeners.forEach(l -> l.fieldCheckStarted(type, check, field));
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            action.run();
+        }
+        catch (Throwable e) {
+            failure = e;
+            throw e;
+        }
+        finally {
+            long duration = System.nanoTime() - start;
+            finished(failure, l -> l.fieldCheckFinished(type, check, field, duration));
+        }
+    }
+
+    private void finished(Throwable failure, Consumer<VerificationListener> event) {
+        RuntimeException listenerFailure = null;
+        for (VerificationListener l : listeners) {
+            try {
+                event.accept(l);
+            }
+            catch (RuntimeException e) {
+                if (failure != null) {
+                    failure.addSuppressed(e);
+                }
+                else if (listenerFailure == null) {
+                    listenerFailure = e;
+                }
+                else {
+                    listenerFailure.addSuppressed(e);
+                }
+            }
+        }
+        if (listenerFailure != null) {
+            throw listenerFailure;
+        }
+    }
+}
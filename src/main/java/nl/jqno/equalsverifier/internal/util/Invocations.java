@@ -0,0 +1,38 @@
+package nl.jqno.equalsverifier.internal.util;
+
+/**
+ * Calls {@code equals} and {@code hashCode} on the objects that are being
+ * verified, and counts the calls in {@link Counters}.
+ *
+ * Checkers should call these methods instead of calling {@code equals} and
+ * {@code hashCode} directly, so the counters show how much of a verification
+ * is spent in the class under test.
+ */
+public final class Invocations {
+    private Invocations() {
+        // Do not instantiate
+    }
+
+    /**
+     * Calls {@code receiver.equals(other)}.
+     *
+     * @param receiver The object whose {@code equals} method is called.
+     * @param other The object to compare {@code receiver} with. Can be null.
+     * @return The result of {@code receiver.equals(other)}.
+     */
+    public static boolean invokeEquals(Object receiver, Object other) {
+        Counters.equalsInvocation();
+        return receiver.equals(other);
+    }
+
+    /**
+     * Calls {@code receiver.hashCode()}.
+     *
+     * @param receiver The object whose {@code hashCode} method is called.
+     * @return The result of {@code receiver.hashCode()}.
+     */
+    public static int invokeHashCode(Object receiver) {
+        Counters.hashCodeInvocation();
+        return receiver.hashCode();
+    }
+}
@@ -0,0 +1,171 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.Func.Func1;
+import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.PrefabValuesProvider;
+import nl.jqno.equalsverifier.PrefabValuesRegistry;
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+/**
+ * Combines the factories for the Java API with the ones from the
+ * {@link PrefabValuesProvider}s on the classpath.
+ *
+ * The providers are loaded through the calling thread's context ClassLoader,
+ * only once per ClassLoader. Their factories are indexed by type name
+ * together with the Java API factories, so a verification finds them with a
+ * single lookup, just like the Java API factories. If a provider can't be
+ * loaded or fails to add its values, the failure is kept as well, and thrown
+ * again without reloading the providers.
+ *
+ * The factories refer to the providers and to the types they add values
+ * for, which usually come from the context ClassLoader itself. That keeps
+ * the ClassLoader reachable, even though it is only a weak key, until the
+ * soft references to the factories are cleared under memory pressure. The
+ * factories that were used last are remembered separately, so
+ * verifications that run with the same context ClassLoader don't have to
+ * take a lock.
+ */
+public final class ProvidedPrefabValues {
+    private static final Map<ClassLoader, SoftReference<Providers>> PROVIDERS = new WeakHashMap<>();
+    private static volatile SoftReference<Providers> lastUsed = new SoftReference<>(null);
+
+    private ProvidedPrefabValues() {
+        // Do not instantiate
+    }
+
+    /**
+     * Creates a FactoryCache pre-populated with the factories for the Java
+     * API and the factories from the {@link PrefabValuesProvider}s.
+     *
+     * The returned cache is a cheap overlay on top of the shared factories,
+     * which can be modified without affecting other callers.
+     *
+     * @return A pre-populated {@link FactoryCache}.
+     */
+    public static FactoryCache build() {
+        return defaults().overlay();
+    }
+
+    /**
+     * Returns the factories for the Java API and the factories from the
+     * {@link PrefabValuesProvider}s of the context ClassLoader.
+     *
+     * The same instance is returned for as long as the context ClassLoader
+     * stays the same, so it can be used to tell apart the defaults of
+     * different ClassLoaders. It is shared, so it must not be modified; use
+     * {@link #build()} or {@link FactoryCache#overlay()} to add factories.
+     *
+     * @return The shared, pre-populated {@link FactoryCache}.
+     */
+    public static FactoryCache defaults() {
+        return defaults(Thread.currentThread().getContextClassLoader());
+    }
+
+    /* package protected */ static FactoryCache defaults(ClassLoader loader) {
+        Providers last = lastUsed.get();
+        if (last != null && last.isFor(loader)) {
+            return last.getFactories();
+        }
+        Providers result = providersFor(loader);
+        lastUsed = new SoftReference<>(result);
+        return result.getFactories();
+    }
+
+    private static Providers providersFor(ClassLoader loader) {
+        synchronized (PROVIDERS) {
+            SoftReference<Providers> ref = PROVIDERS.get(loader);
+            Providers result = ref == null ? null : ref.get();
+            if (result == null) {
+                result = Providers.load(loader);
+                PROVIDERS.put(loader, new SoftReference<>(result));
+            }
+            return result;
+        }
+    }
+
+    /* package protected */ static FactoryCache load(Iterable<PrefabValuesProvider> providers) {
+        FactoryCache result = JavaApiPrefabValues.build();
+        Registry registry = new Registry(result);
+        for (PrefabValuesProvider provider : providers) {
+            provider.addPrefabValues(registry);
+        }
+        return result;
+    }
+
+    private static final class Providers {
+        private final WeakReference<ClassLoader> loader;
+        private final boolean isForNullLoader;
+        private final FactoryCache factories;
+        private final RuntimeException exception;
+        private final ServiceConfigurationError error;
+
+        private Providers(ClassLoader loader, FactoryCache factories, RuntimeException exception, ServiceConfigurationError error) {
+            this.loader = new WeakReference<>(loader);
+            this.isForNullLoader = loader == null;
+            this.factories = factories;
+            this.exception = exception;
+            this.error = error;
+        }
+
+        private static Providers load(ClassLoader loader) {
+            try {
+                FactoryCache factories = ProvidedPrefabValues.load(ServiceLoader.load(PrefabValuesProvider.class, loader));
+                return new Providers(loader, factories, null, null);
+            }
+            catch (RuntimeException e) {
+                return new Providers(loader, null, e, null);
+            }
+            catch (ServiceConfigurationError e) {
+                return new Providers(loader, null, null, e);
+            }
+        }
+
+        private boolean isFor(ClassLoader other) {
+            return other == null ? isForNullLoader : loader.get() == other;
+        }
+
+        private FactoryCache getFactories() {
+            if (exception != null) {
+                throw exception;
+            }
+            if (error != null) {
+                throw error;
+            }
+            return factories;
+        }
+    }
+
+    private static final class Registry implements PrefabValuesRegistry {
+        private final FactoryCache factoryCache;
+
+        private Registry(FactoryCache factoryCache) {
+            this.factoryCache = factoryCache;
+        }
+
+        @Override
+        public <S> PrefabValuesRegistry withPrefabValues(Class<S> otherType, S red, S black) {
+            PrefabValuesApi.addPrefabValues(factoryCache, otherType, red, black);
+            return this;
+        }
+
+        @Override
+        public <S> PrefabValuesRegistry withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory) {
+            PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+            return this;
+        }
+
+        @Override
+        public <S> PrefabValuesRegistry withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory) {
+            PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+            return this;
+        }
+    }
+}
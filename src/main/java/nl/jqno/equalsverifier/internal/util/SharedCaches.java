@@ -0,0 +1,85 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedPrefabValues;
+
+/**
+ * Contains the caches that can be shared between the verifications of
+ * several classes, as long as these verifications use the same prefab
+ * values. The verifications may run in parallel.
+ *
+ * Caches that don't depend on the prefab values, such as the parsed class
+ * files used to find annotations, are shared by the entire JVM instead.
+ */
+public final class SharedCaches {
+    private final PrefabValues prefabValues;
+
+    private SharedCaches(PrefabValues prefabValues) {
+        this.prefabValues = prefabValues;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param factoryCache The factories that were added by the user, on top
+     *          of the ones for the Java API and the ones from the
+     *          {@link nl.jqno.equalsverifier.PrefabValuesProvider}s.
+     * @return A new, empty instance.
+     */
+    public static SharedCaches of(FactoryCache factoryCache) {
+        return of(ProvidedPrefabValues.defaults(), factoryCache);
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param defaultFactories The factories for the Java API and the
+     *          {@link nl.jqno.equalsverifier.PrefabValuesProvider}s, as
+     *          returned by {@link ProvidedPrefabValues#defaults()}.
+     * @param factoryCache The factories that were added by the user, on top
+     *          of the default ones.
+     * @return A new, empty instance.
+     */
+    public static SharedCaches of(FactoryCache defaultFactories, FactoryCache factoryCache) {
+        FactoryCache cache = defaultFactories.overlay().merge(factoryCache);
+        return new SharedCaches(new PrefabValues(cache));
+    }
+
+    /**
+     * Factory method for caches whose prefab values are also shared with
+     * other verifications in the JVM that use the same factories.
+     *
+     * @param type The class under test.
+     * @param factoryCache The factories that were added by the user, on top
+     *          of the ones for the Java API and the ones from the
+     *          {@link nl.jqno.equalsverifier.PrefabValuesProvider}s.
+     * @return An instance that uses the JVM-wide prefab values.
+     */
+    public static SharedCaches jvmWide(Class<?> type, FactoryCache factoryCache) {
+        return jvmWide(type, ProvidedPrefabValues.defaults(), factoryCache);
+    }
+
+    /**
+     * Factory method for caches whose prefab values are also shared with
+     * other verifications in the JVM that use the same factories.
+     *
+     * @param type The class under test.
+     * @param defaultFactories The factories for the Java API and the
+     *          {@link nl.jqno.equalsverifier.PrefabValuesProvider}s, as
+     *          returned by {@link ProvidedPrefabValues#defaults()}.
+     * @param factoryCache The factories that were added by the user, on top
+     *          of the default ones.
+     * @return An instance that uses the JVM-wide prefab values.
+     */
+    public static SharedCaches jvmWide(Class<?> type, FactoryCache defaultFactories, FactoryCache factoryCache) {
+        return new SharedCaches(SharedPrefabValues.get(type, defaultFactories, factoryCache));
+    }
+
+    /**
+     * @return The prefab values that are shared between verifications.
+     */
+    public PrefabValues getPrefabValues() {
+        return prefabValues;
+    }
+}
@@ -107,6 +107,15 @@ public final class Validations {
         );
     }
 
+    public static void validateClassesGiven(List<Class<?>> types) {
+        validate(types.isEmpty(), "no classes to verify were given.");
+    }
+
+    public static void validatePackageContainsClasses(String packageName, List<Class<?>> types) {
+        validate(types.isEmpty(), "package " + packageName + " doesn't contain any classes to verify." +
+                " Check its name; classes inside a jar file can't be found.");
+    }
+
     public static void validateNotNull(Object object, String errormessage) {
         if (object == null) {
             throw new NullPointerException("Precondition: " + errormessage);
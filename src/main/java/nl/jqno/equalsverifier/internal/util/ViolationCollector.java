@@ -0,0 +1,191 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
+import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Decides what happens when a check fails.
+ *
+ * By default, the first {@link AssertionException} ends the verification.
+ * When collecting, each failed check is recorded instead, and the
+ * verification moves on to the next check. When all checks have run, the
+ * failures are thrown together.
+ *
+ * Once a check has failed on a field, the remaining checks on that field are
+ * skipped: they would run into the same problem, or into problems that are
+ * caused by it. Fields are told apart by their declaring class as well as
+ * their name, so a field that shadows a superclass field is checked on its
+ * own.
+ *
+ * A collecting instance belongs to a single verification, and therefore to a
+ * single thread.
+ */
+public final class ViolationCollector {
+    /**
+     * ViolationCollector that doesn't collect anything.
+     */
+    public static final ViolationCollector NONE = new ViolationCollector(false);
+
+    private final boolean collecting;
+    private final List<Failure> failures = new ArrayList<>();
+    private final Set<Field> failedFields = new HashSet<>();
+    private AssertionException firstException = null;
+
+    private ViolationCollector(boolean collecting) {
+        this.collecting = collecting;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @return A ViolationCollector that records failed checks.
+     */
+    public static ViolationCollector collecting() {
+        return new ViolationCollector(true);
+    }
+
+    /**
+     * @return Whether failed checks are recorded.
+     */
+    public boolean isCollecting() {
+        return collecting;
+    }
+
+    /**
+     * Runs a check. If it fails and this ViolationCollector is collecting,
+     * the failure is recorded; otherwise, it is thrown. The check is skipped
+     * if an earlier check failed on the same field.
+     *
+     * @param check The name of the check.
+     * @param field The field that is checked, or null if the check isn't
+     *          about a single field.
+     * @param action The check to run.
+     * @return Whether the check passed. False if it was skipped.
+     */
+    public boolean run(String check, Field field, Runnable action) {
+        if (!collecting) {
+            action.run();
+            return true;
+        }
+        if (field != null && failedFields.contains(field)) {
+            return false;
+        }
+
+        try {
+            action.run();
+            return true;
+        }
+        catch (AssertionException e) {
+            failures.add(new Failure(check, field == null ? null : field.getName(), e.getDescription(), e));
+            if (firstException == null) {
+                firstException = e;
+            }
+            if (field != null) {
+                failedFields.add(field);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Runs a whole verification, and throws the failures that were recorded
+     * while it ran.
+     *
+     * If the verification can't continue because of another exception, that
+     * exception is recorded as well, since it may have been caused by one of
+     * the failures that came before it.
+     *
+     * @param verification The verification to run.
+     * @throws AssertionException If any checks failed. If a single check
+     *          failed, its own exception is thrown.
+     */
+    public void verify(Runnable verification) {
+        if (!collecting) {
+            verification.run();
+            return;
+        }
+
+        try {
+            verification.run();
+        }
+        catch (RuntimeException | Error e) {
+            if (failures.isEmpty()) {
+                throw e;
+            }
+            String description = e instanceof MessagingException ? ((MessagingException)e).getDescription() : e.getMessage();
+            failures.add(new Failure(null, null, description, e));
+        }
+
+        if (failures.size() == 1) {
+            // An exception that ends the verification is only recorded after
+            // another failure, so a single failure always comes from run().
+            throw firstException;
+        }
+        if (!failures.isEmpty()) {
+            String descriptions = failures.stream()
+                .map(Failure::getDescription)
+                .collect(Collectors.joining("\n-> "));
+            throw new AssertionException(Formatter.of("%%", descriptions), firstException);
+        }
+    }
+
+    /**
+     * Can be used to skip checks that only make sense if another check
+     * passed.
+     *
+     * @param check The name of the check.
+     * @return Whether the check failed on at least one field.
+     */
+    public boolean hasFailed(String check) {
+        return failures.stream().anyMatch(f -> check.equals(f.getCheck()));
+    }
+
+    /**
+     * @return The failures that were recorded, in the order in which they
+     *          occurred.
+     */
+    public List<Failure> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * A check that failed.
+     */
+    public static final class Failure {
+        private final String check;
+        private final String field;
+        private final String description;
+        private final Throwable cause;
+
+        private Failure(String check, String field, String description, Throwable cause) {
+            this.check = check;
+            this.field = field;
+            this.description = description;
+            this.cause = cause;
+        }
+
+        public String getCheck() {
+            return check;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public Throwable getCause() {
+            return cause;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.*;
+
+@Name("nl.jqno.equalsverifier.DynamicSubclass")
+@Label("Dynamic Subclass Generation")
+@Description("Generation of a subclass with Byte Buddy, to instantiate abstract classes or to check inheritance")
+@Category("EqualsVerifier")
+@StackTrace(false)
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "The Flight Recorder reads the fields.")
+final class DynamicSubclassEvent extends Event {
+    @Label("Superclass")
+    Class<?> superclass;
+}
@@ -0,0 +1,74 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import jdk.jfr.EventType;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link EventRecorder} that emits JDK Flight Recorder events.
+ *
+ * Only available on Java 11 and up; {@link Jfr} loads it by name.
+ */
+public final class JfrEventRecorder implements EventRecorder {
+    private static final EventType VERIFICATION = EventType.getEventType(VerificationEvent.class);
+    private static final EventType PHASE = EventType.getEventType(PhaseEvent.class);
+
+    private final VerificationListener listener = new JfrVerificationListener();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VerificationListener verificationListener() {
+        return VERIFICATION.isEnabled() || PHASE.isEnabled() ? listener : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T prefabValues(TypeTag tag, Supplier<T> creator) {
+        PrefabValuesEvent event = new PrefabValuesEvent();
+        if (!event.isEnabled()) {
+            return creator.get();
+        }
+
+        event.begin();
+        try {
+            return creator.get();
+        }
+        finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = tag.getType();
+                event.typeTag = tag.toString();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T dynamicSubclass(Class<?> superclass, Supplier<T> generator) {
+        DynamicSubclassEvent event = new DynamicSubclassEvent();
+        if (!event.isEnabled()) {
+            return generator.get();
+        }
+
+        event.begin();
+        try {
+            return generator.get();
+        }
+        finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.superclass = superclass;
+                event.commit();
+            }
+        }
+    }
+}
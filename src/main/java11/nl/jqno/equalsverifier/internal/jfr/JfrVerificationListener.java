@@ -0,0 +1,51 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import jdk.jfr.Event;
+import nl.jqno.equalsverifier.VerificationListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * {@link VerificationListener} that turns the events of a verification into
+ * JDK Flight Recorder events.
+ *
+ * Verifications and their phases start and finish on the same thread, in
+ * nested order, so each thread keeps a stack of the events that are still
+ * running.
+ */
+final class JfrVerificationListener implements VerificationListener {
+    private final ThreadLocal<Deque<Event>> running = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void verificationStarted(Class<?> type) {
+        VerificationEvent event = new VerificationEvent();
+        event.type = type;
+        start(event);
+    }
+
+    @Override
+    public void verificationFinished(Class<?> type, long durationNanos, boolean successful) {
+        VerificationEvent event = (VerificationEvent)running.get().pop();
+        event.successful = successful;
+        event.commit();
+    }
+
+    @Override
+    public void phaseStarted(Class<?> type, String phase) {
+        PhaseEvent event = new PhaseEvent();
+        event.type = type;
+        event.phase = phase;
+        start(event);
+    }
+
+    @Override
+    public void phaseFinished(Class<?> type, String phase, long durationNanos) {
+        running.get().pop().commit();
+    }
+
+    private void start(Event event) {
+        event.begin();
+        running.get().push(event);
+    }
+}
@@ -0,0 +1,16 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import jdk.jfr.*;
+
+@Name("nl.jqno.equalsverifier.Phase")
+@Label("Verification Phase")
+@Description("A phase of a verification, such as building the configuration, scanning annotations, or one of the checks")
+@Category("EqualsVerifier")
+@StackTrace(false)
+final class PhaseEvent extends Event {
+    @Label("Class")
+    Class<?> type;
+
+    @Label("Phase")
+    String phase;
+}
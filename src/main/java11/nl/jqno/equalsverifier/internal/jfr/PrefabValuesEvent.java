@@ -0,0 +1,19 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.*;
+
+@Name("nl.jqno.equalsverifier.PrefabValues")
+@Label("Prefab Values Creation")
+@Description("Creation of the red, black and red copy values for a type")
+@Category("EqualsVerifier")
+@StackTrace(false)
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "The Flight Recorder reads the fields.")
+final class PrefabValuesEvent extends Event {
+    @Label("Class")
+    Class<?> type;
+
+    @Label("Type")
+    @Description("The type, including its generic parameters")
+    String typeTag;
+}
@@ -0,0 +1,16 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import jdk.jfr.*;
+
+@Name("nl.jqno.equalsverifier.Verification")
+@Label("Verification")
+@Description("Verification of the equals and hashCode methods of a class")
+@Category("EqualsVerifier")
+@StackTrace(false)
+final class VerificationEvent extends Event {
+    @Label("Class")
+    Class<?> type;
+
+    @Label("Successful")
+    boolean successful;
+}
@@ -28,6 +28,13 @@ public class ArrayTest extends ExpectedExceptionTestBase {
                 .verify();
     }
 
+    @Test
+    public void fail_whenRegularEqualsIsUsedInsteadOfArraysEquals_givenAnEarlierFieldWithAProblemThatIsCheckedLater() {
+        expectFailure(REGULAR_EQUALS, FIELD_NAME);
+        EqualsVerifier.forClass(UnusedFieldAndPrimitiveArrayRegularEquals.class)
+                .verify();
+    }
+
     @Test
     public void fail_whenRegularHashCodeIsUsedInsteadOfArraysHashCode_givenAPrimitiveArray() {
         expectFailure(REGULAR_HASHCODE, FIELD_NAME);
@@ -167,6 +174,30 @@ public class ArrayTest extends ExpectedExceptionTestBase {
         }
     }
 
+    static final class UnusedFieldAndPrimitiveArrayRegularEquals {
+        private final int unused;
+        private final int[] array;
+
+        public UnusedFieldAndPrimitiveArrayRegularEquals(int unused, int[] array) {
+            this.unused = unused;
+            this.array = array;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof UnusedFieldAndPrimitiveArrayRegularEquals)) {
+                return false;
+            }
+            UnusedFieldAndPrimitiveArrayRegularEquals other = (UnusedFieldAndPrimitiveArrayRegularEquals)obj;
+            return Objects.equals(array, other.array);
+        }
+
+        @Override
+        public int hashCode() {
+            return (array == null) ? 0 : Arrays.hashCode(array);
+        }
+    }
+
     static final class PrimitiveArrayRegularHashCode {
         private final int[] array;
 
@@ -0,0 +1,215 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.Violation;
+import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.*;
+
+public class CollectAllViolationsTest {
+    @Test
+    public void reportNoViolations_whenClassIsCorrect() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class)
+                .collectingAllViolations()
+                .report();
+
+        assertTrue(report.isSuccessful());
+        assertTrue(report.getViolations().isEmpty());
+    }
+
+    @Test
+    public void reportSingleViolationWithoutCheck_whenNotCollecting() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(MultipleProblems.class).report();
+
+        assertEquals(1, report.getViolations().size());
+        Violation violation = report.getViolations().get(0);
+        assertNull(violation.getCheck());
+        assertNull(violation.getField());
+        assertEquals("Non-nullity: equals throws NullPointerException on field name.", violation.getMessage());
+        assertSame(report.getCause(), violation.getCause());
+    }
+
+    @Test
+    public void reportEachViolation_whenCollecting() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(MultipleProblems.class)
+                .collectingAllViolations()
+                .report();
+
+        assertFalse(report.isSuccessful());
+        assertViolations(report.getViolations());
+        assertThat(report.getMessage(), startsWith("EqualsVerifier found 2 problems in class MultipleProblems.\n" +
+                "-> Non-nullity: equals throws NullPointerException on field name.\n" +
+                "-> Significant fields: equals does not use y, or it is stateless."));
+        assertEquals(AssertionException.class, report.getCause().getClass());
+        assertSame(report.getViolations().get(0).getCause(), report.getCause().getCause());
+    }
+
+    @Test
+    public void listEachViolation_whenVerifyingWhileCollecting() {
+        try {
+            EqualsVerifier.forClass(MultipleProblems.class)
+                    .collectingAllViolations()
+                    .verify();
+            fail("Should have failed");
+        }
+        catch (AssertionError e) {
+            assertThat(e.getMessage(), startsWith("EqualsVerifier found 2 problems in class MultipleProblems."));
+            assertThat(e.getMessage(), containsString("-> Significant fields: equals does not use y"));
+        }
+    }
+
+    @Test
+    public void reportTheSameMessage_whenCollectingASingleViolation() {
+        EqualsVerifierReport expected = EqualsVerifier.forClass(Point.class).report();
+        EqualsVerifierReport actual = EqualsVerifier.forClass(Point.class)
+                .collectingAllViolations()
+                .report();
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertEquals(expected.getCause().getClass(), actual.getCause().getClass());
+        assertEquals(1, actual.getViolations().size());
+        assertEquals("HierarchyChecker", actual.getViolations().get(0).getCheck());
+        assertNull(actual.getViolations().get(0).getField());
+    }
+
+    @Test
+    public void skipChecksThatDependOnTheExamples_whenTheExamplesAreWrong() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(NeverEqual.class)
+                .collectingAllViolations()
+                .report();
+
+        assertEquals(1, report.getViolations().size());
+        assertEquals("ExamplesChecker", report.getViolations().get(0).getCheck());
+        assertThat(report.getViolations().get(0).toString(), startsWith("Violation[check=ExamplesChecker, field=null, message=Reflexivity"));
+    }
+
+    @Test
+    public void skipAllOtherChecks_whenTheSignatureIsWrong() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(OverloadedAndNeverEqual.class)
+                .collectingAllViolations()
+                .report();
+
+        assertEquals(1, report.getViolations().size());
+        assertEquals("SignatureChecker", report.getViolations().get(0).getCheck());
+    }
+
+    @Test
+    public void collectAllViolations_whenConfigured() {
+        EqualsVerifierReport report = EqualsVerifier.configure()
+                .collectingAllViolations()
+                .forClass(MultipleProblems.class)
+                .report();
+
+        assertViolations(report.getViolations());
+    }
+
+    @Test
+    public void collectAllViolations_whenConfiguredForMultipleClasses() {
+        List<EqualsVerifierReport> reports = EqualsVerifier.configure()
+                .collectingAllViolations()
+                .forClasses(Arrays.asList(FinalPoint.class, MultipleProblems.class))
+                .report();
+
+        assertTrue(reports.get(0).getViolations().isEmpty());
+        assertViolations(reports.get(1).getViolations());
+    }
+
+    @Test
+    public void collectAllViolations_whenVerifyingMultipleClasses() {
+        List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(Arrays.asList(FinalPoint.class, MultipleProblems.class))
+                .collectingAllViolations()
+                .report();
+
+        assertViolations(reports.get(1).getViolations());
+    }
+
+    private void assertViolations(List<Violation> violations) {
+        assertEquals(2, violations.size());
+
+        Violation first = violations.get(0);
+        assertEquals("NullPointerExceptionFieldCheck", first.getCheck());
+        assertEquals("name", first.getField());
+        assertEquals("Non-nullity: equals throws NullPointerException on field name.", first.getMessage());
+        assertEquals(AssertionException.class, first.getCause().getClass());
+
+        Violation second = violations.get(1);
+        assertEquals("SignificantFieldCheck", second.getCheck());
+        assertEquals("y", second.getField());
+        assertThat(second.getMessage(), startsWith("Significant fields: equals does not use y"));
+    }
+
+    static final class MultipleProblems {
+        private final int x;
+        private final String name;
+        private final int y;
+
+        public MultipleProblems(int x, String name, int y) {
+            this.x = x;
+            this.name = name;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof MultipleProblems)) {
+                return false;
+            }
+            MultipleProblems other = (MultipleProblems)obj;
+            return x == other.x && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return x;
+        }
+    }
+
+    static final class NeverEqual {
+        private final int x;
+
+        public NeverEqual(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return x;
+        }
+    }
+
+    static final class OverloadedAndNeverEqual {
+        private final int x;
+
+        public OverloadedAndNeverEqual(int x) {
+            this.x = x;
+        }
+
+        public boolean equals(OverloadedAndNeverEqual other) {
+            return other != null && x == other.x;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return x;
+        }
+    }
+}
@@ -33,6 +33,20 @@ public class ConfiguredEqualsVerifierTest extends ExpectedExceptionTestBase {
                 .verify();
     }
 
+    @Test
+    public void succeed_whenUsingSharedPrefabValueCacheIsPreConfigured() {
+        EqualsVerifier.configure()
+                .usingSharedPrefabValueCache()
+                .forClass(GetClassPoint.class)
+                .usingGetClass()
+                .verify();
+        EqualsVerifier.configure()
+                .usingSharedPrefabValueCache()
+                .forClass(PointContainer.class)
+                .suppress(Warning.STRICT_INHERITANCE)
+                .verify();
+    }
+
     @Test
     public void sanity_fail_whenTypeIsRecursive() {
         expectFailure("Recursive datastructure");
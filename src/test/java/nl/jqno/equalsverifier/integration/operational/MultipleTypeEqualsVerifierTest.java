@@ -0,0 +1,217 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.B;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.C;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.GetClassPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.Point3D;
+import nl.jqno.equalsverifier.testhelpers.types.PointContainer;
+import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.RecursiveType;
+import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.RecursiveTypeContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.DoubleGenericContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.DoubleGenericContainerContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.SingleGenericContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.SingleGenericContainerContainer;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.*;
+
+public class MultipleTypeEqualsVerifierTest extends ExpectedExceptionTestBase {
+    private static final String CORRECT_PACKAGE = "nl.jqno.equalsverifier.testhelpers.packages.correct";
+    private static final String INCORRECT_PACKAGE = "nl.jqno.equalsverifier.testhelpers.packages.twoincorrect";
+
+    @Test
+    public void succeed_whenAllClassesAreCorrect() {
+        EqualsVerifier.forClasses(Arrays.asList(A.class, B.class, C.class))
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenAllClassesAreCorrect_givenVarargs() {
+        EqualsVerifier.forClasses(A.class, B.class, C.class)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenAllClassesAreCorrect_givenVarargsOnConfiguredEqualsVerifier() {
+        EqualsVerifier.configure()
+                .forClasses(A.class, B.class, C.class)
+                .verify();
+    }
+
+    @Test
+    public void reportContainsAllClasses_givenAListOfSubtypes() {
+        List<Class<? extends Point>> types = Arrays.asList(Point.class, Point3D.class);
+        List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(types)
+                .report();
+
+        assertEquals(2, reports.size());
+        assertEquals(Point.class, reports.get(0).getType());
+        assertEquals(Point3D.class, reports.get(1).getType());
+    }
+
+    @Test
+    public void succeed_whenAllClassesInPackageAreCorrect() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE)
+                .verify();
+    }
+
+    @Test
+    public void fail_whenOneClassIsIncorrect() {
+        expectFailure("EqualsVerifier found a problem in 1 class.", "* " + Point.class.getName(),
+                "Subclass: equals is not final.");
+        EqualsVerifier.forClasses(Arrays.asList(FinalPoint.class, Point.class))
+                .verify();
+    }
+
+    @Test
+    public void fail_whenTwoClassesInPackageAreIncorrect() {
+        expectFailure("EqualsVerifier found a problem in 2 classes.",
+                "* " + INCORRECT_PACKAGE + ".B", "* " + INCORRECT_PACKAGE + ".C",
+                "Significant fields: hashCode relies on y, but equals does not.");
+        EqualsVerifier.forPackage(INCORRECT_PACKAGE)
+                .verify();
+    }
+
+    @Test
+    public void reportContainsOneReportPerClassInOrder() {
+        List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(Arrays.asList(Point.class, FinalPoint.class))
+                .report();
+
+        assertEquals(2, reports.size());
+        assertEquals(Point.class, reports.get(0).getType());
+        assertFalse(reports.get(0).isSuccessful());
+        assertThat(reports.get(0).getMessage(), startsWith("EqualsVerifier found a problem in class Point"));
+        assertEquals(FinalPoint.class, reports.get(1).getType());
+        assertTrue(reports.get(1).isSuccessful());
+    }
+
+    @Test
+    public void succeed_whenUsingGetClassIsPassedOn() {
+        EqualsVerifier.configure()
+                .usingGetClass()
+                .forClasses(Arrays.asList(GetClassPoint.class))
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenSuppressedWarningsArePassedOn() {
+        EqualsVerifier.configure()
+                .suppress(Warning.STRICT_INHERITANCE)
+                .forClasses(Arrays.asList(PointContainer.class, FinalPoint.class))
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenUsingGetClassIsCalledOnMultipleTypeApi() {
+        EqualsVerifier.forClasses(Arrays.asList(GetClassPoint.class))
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenWarningsAreSuppressedOnMultipleTypeApi() {
+        EqualsVerifier.forClasses(Arrays.asList(PointContainer.class, FinalPoint.class))
+                .suppress(Warning.STRICT_INHERITANCE)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenGenericPrefabValuesAreAddedToMultipleTypeApi() {
+        EqualsVerifier.forClasses(Arrays.asList(SingleGenericContainerContainer.class, DoubleGenericContainerContainer.class))
+                .withGenericPrefabValues(SingleGenericContainer.class, SingleGenericContainer::new)
+                .withGenericPrefabValues(DoubleGenericContainer.class, DoubleGenericContainer::new)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesAreAddedToMultipleTypeApi() {
+        EqualsVerifier.forClasses(Arrays.asList(RecursiveTypeContainer.class, FinalPoint.class))
+                .withPrefabValues(RecursiveType.class, new RecursiveType(null), new RecursiveType(new RecursiveType(null)))
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenAllClassesAreCorrect_givenInParallel() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE)
+                .inParallel()
+                .verify();
+    }
+
+    @Test
+    public void reportIsInOrder_givenInParallel() {
+        List<Class<?>> types = Arrays.asList(Point.class, A.class, FinalPoint.class, B.class, C.class, GetClassPoint.class);
+        List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(types)
+                .inParallel(3)
+                .report();
+
+        assertEquals(types.size(), reports.size());
+        for (int i = 0; i < types.size(); i++) {
+            assertEquals(types.get(i), reports.get(i).getType());
+        }
+        assertFalse(reports.get(0).isSuccessful());
+        assertTrue(reports.get(1).isSuccessful());
+    }
+
+    @Test
+    public void fail_whenTwoClassesInPackageAreIncorrect_givenInParallel() {
+        expectFailure("EqualsVerifier found a problem in 2 classes.",
+                "* " + INCORRECT_PACKAGE + ".B\n* " + INCORRECT_PACKAGE + ".C");
+        EqualsVerifier.forPackage(INCORRECT_PACKAGE)
+                .inParallel(2)
+                .verify();
+    }
+
+    @Test
+    public void throw_whenParallelismIsZero() {
+        expectException(IllegalArgumentException.class, "Number of threads must be at least 1");
+        EqualsVerifier.forPackage(CORRECT_PACKAGE)
+                .inParallel(0);
+    }
+
+    @Test
+    public void throw_whenPackageDoesNotContainClasses() {
+        expectException(IllegalStateException.class, "Precondition", "nl.jqno.equalsverifier.doesnotexist", "doesn't contain any classes");
+        EqualsVerifier.forPackage("nl.jqno.equalsverifier.doesnotexist");
+    }
+
+    @Test
+    public void throw_whenNoClassesAreGiven() {
+        expectException(IllegalStateException.class, "Precondition", "no classes to verify");
+        EqualsVerifier.forClasses();
+    }
+
+    @Test
+    public void throw_whenEmptyListOfClassesIsGiven() {
+        expectException(IllegalStateException.class, "Precondition", "no classes to verify");
+        EqualsVerifier.configure()
+                .forClasses(Collections.emptyList());
+    }
+
+    @Test
+    public void succeed_whenUsingSharedPrefabValueCache() {
+        EqualsVerifier.forClasses(Arrays.asList(A.class, B.class, C.class))
+                .usingSharedPrefabValueCache()
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenUsingSharedPrefabValueCacheIsPassedOn() {
+        EqualsVerifier.configure()
+                .usingSharedPrefabValueCache()
+                .forClasses(Arrays.asList(A.class, B.class, C.class))
+                .inParallel(2)
+                .verify();
+    }
+}
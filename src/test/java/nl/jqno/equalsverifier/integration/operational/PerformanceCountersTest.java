@@ -0,0 +1,160 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.PerformanceCounters;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.*;
+
+public class PerformanceCountersTest {
+    @Test
+    public void noCounters_whenNotRequested() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class).report();
+        assertNull(report.getPerformanceCounters());
+    }
+
+    @Test
+    public void countWhatTheVerificationDoes() {
+        PerformanceCounters counters = EqualsVerifier.forClass(FinalPoint.class)
+                .withPerformanceCounters()
+                .report()
+                .getPerformanceCounters();
+
+        assertTrue(counters.getPrefabValueHits() > 0);
+        assertTrue(counters.getPrefabValueMisses() > 0);
+        assertTrue(counters.getInstantiations() > 0);
+        assertTrue(counters.getFieldReads() > 0);
+        assertTrue(counters.getFieldWrites() > 0);
+        assertTrue(counters.getEqualsInvocations() > 0);
+        assertTrue(counters.getHashCodeInvocations() > 0);
+        assertTrue(counters.getAllocatedBytes() > 0 || counters.getAllocatedBytes() == -1);
+        assertThat(counters.toString(), startsWith("PerformanceCounters[prefabValueHits="));
+    }
+
+    @Test
+    public void countDynamicSubclassesOnlyWhenTheyAreGenerated() {
+        PerformanceCounters first = EqualsVerifier.forClass(CountedPoint.class)
+                .withPerformanceCounters()
+                .report()
+                .getPerformanceCounters();
+        PerformanceCounters second = EqualsVerifier.forClass(CountedPoint.class)
+                .withPerformanceCounters()
+                .report()
+                .getPerformanceCounters();
+
+        assertTrue(first.getDynamicSubclasses() > 0);
+        assertEquals(0, second.getDynamicSubclasses());
+    }
+
+    @Test
+    public void countEveryInvocationOfEqualsAndHashCode() {
+        InvokedPoint.EQUALS.set(0);
+        InvokedPoint.HASH_CODE.set(0);
+        PerformanceCounters counters = EqualsVerifier.forClass(InvokedPoint.class)
+                .withPerformanceCounters()
+                .report()
+                .getPerformanceCounters();
+
+        assertEquals(InvokedPoint.EQUALS.get(), counters.getEqualsInvocations());
+        assertEquals(InvokedPoint.HASH_CODE.get(), counters.getHashCodeInvocations());
+    }
+
+    @Test
+    public void countVerificationThatFails() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(Point.class)
+                .withPerformanceCounters()
+                .report();
+
+        assertFalse(report.isSuccessful());
+        assertTrue(report.getPerformanceCounters().getInstantiations() > 0);
+    }
+
+    @Test
+    public void countersArePassedOn_whenConfigured() {
+        EqualsVerifierReport report = EqualsVerifier.configure()
+                .withPerformanceCounters()
+                .forClass(FinalPoint.class)
+                .report();
+
+        assertNotNull(report.getPerformanceCounters());
+    }
+
+    @Test
+    public void countEachClassSeparately_whenVerifyingSeveralClasses() {
+        List<EqualsVerifierReport> reports = EqualsVerifier.configure()
+                .withPerformanceCounters()
+                .forClasses(Arrays.asList(FinalPoint.class, Point.class))
+                .report();
+
+        for (EqualsVerifierReport report : reports) {
+            assertTrue(report.getPerformanceCounters().getInstantiations() > 0);
+        }
+    }
+
+    @Test
+    public void countEachClassSeparately_whenVerifyingSeveralClassesInParallel() {
+        List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(Arrays.asList(FinalPoint.class, Point.class))
+                .withPerformanceCounters()
+                .inParallel(2)
+                .report();
+
+        for (EqualsVerifierReport report : reports) {
+            assertTrue(report.getPerformanceCounters().getInstantiations() > 0);
+        }
+    }
+
+    public static final class InvokedPoint {
+        private static final AtomicInteger EQUALS = new AtomicInteger();
+        private static final AtomicInteger HASH_CODE = new AtomicInteger();
+
+        private final int x;
+
+        public InvokedPoint(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            EQUALS.incrementAndGet();
+            if (!(obj instanceof InvokedPoint)) {
+                return false;
+            }
+            return x == ((InvokedPoint)obj).x;
+        }
+
+        @Override
+        public int hashCode() {
+            HASH_CODE.incrementAndGet();
+            return x;
+        }
+    }
+
+    public static class CountedPoint {
+        private final int x;
+
+        public CountedPoint(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public final boolean equals(Object obj) {
+            if (!(obj instanceof CountedPoint)) {
+                return false;
+            }
+            return x == ((CountedPoint)obj).x;
+        }
+
+        @Override
+        public final int hashCode() {
+            return x;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.PrefabValuesProvider;
+import nl.jqno.equalsverifier.PrefabValuesRegistry;
+import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
+import nl.jqno.equalsverifier.testhelpers.ServiceClassLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static nl.jqno.equalsverifier.testhelpers.Util.defaultEquals;
+import static nl.jqno.equalsverifier.testhelpers.Util.defaultHashCode;
+
+public class PrefabValuesProviderTest extends ExpectedExceptionTestBase {
+    private ClassLoader original;
+
+    @Before
+    public void setUp() {
+        original = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(ServiceClassLoader.of(PrefabValuesProvider.class, Provider.class));
+    }
+
+    @After
+    public void tearDown() {
+        Thread.currentThread().setContextClassLoader(original);
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesComeFromAProvider() {
+        EqualsVerifier.forClass(ProvidedRecursiveTypeContainer.class)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenGenericPrefabValuesComeFromAProvider() {
+        EqualsVerifier.forClass(ProvidedGenericRecursiveTypeContainer.class)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesComeFromAProvider_givenSharedPrefabValueCache() {
+        EqualsVerifier.forClass(ProvidedRecursiveTypeContainer.class)
+                .usingSharedPrefabValueCache()
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesComeFromAProvider_givenInParallelAndSharedPrefabValueCache() {
+        EqualsVerifier.forClasses(Arrays.asList(ProvidedRecursiveTypeContainer.class, ProvidedGenericRecursiveTypeContainer.class))
+                .inParallel(2)
+                .usingSharedPrefabValueCache()
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesFromAProviderAreOverridden() {
+        EqualsVerifier.forClass(ProvidedRecursiveTypeContainer.class)
+                .withPrefabValues(ProvidedRecursiveType.class,
+                        new ProvidedRecursiveType(new ProvidedRecursiveType(null)), new ProvidedRecursiveType(null))
+                .verify();
+    }
+
+    public static final class Provider implements PrefabValuesProvider {
+        @Override
+        public void addPrefabValues(PrefabValuesRegistry registry) {
+            registry.withPrefabValues(ProvidedRecursiveType.class,
+                    new ProvidedRecursiveType(null), new ProvidedRecursiveType(new ProvidedRecursiveType(null)));
+            registry.withGenericPrefabValues(ProvidedGenericRecursiveType.class, ProvidedGenericRecursiveType::new);
+        }
+    }
+
+    public static final class ProvidedRecursiveType {
+        private final ProvidedRecursiveType recurse;
+
+        public ProvidedRecursiveType(ProvidedRecursiveType recurse) {
+            this.recurse = recurse;
+        }
+
+        @Override public boolean equals(Object obj) { return defaultEquals(this, obj); }
+        @Override public int hashCode() { return defaultHashCode(this); }
+    }
+
+    public static final class ProvidedRecursiveTypeContainer {
+        private final ProvidedRecursiveType recurse;
+
+        public ProvidedRecursiveTypeContainer(ProvidedRecursiveType recurse) {
+            this.recurse = recurse;
+        }
+
+        @Override public boolean equals(Object obj) { return defaultEquals(this, obj); }
+        @Override public int hashCode() { return defaultHashCode(this); }
+    }
+
+    public static final class ProvidedGenericRecursiveType<T> {
+        private final T t;
+        private final ProvidedGenericRecursiveType<T> recurse;
+
+        public ProvidedGenericRecursiveType(T t) {
+            this.t = t;
+            this.recurse = null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ProvidedGenericRecursiveType)) {
+                return false;
+            }
+            ProvidedGenericRecursiveType<?> other = (ProvidedGenericRecursiveType<?>)obj;
+            return Objects.equals(t, other.t) && Objects.equals(recurse, other.recurse);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(t, recurse);
+        }
+    }
+
+    public static final class ProvidedGenericRecursiveTypeContainer {
+        private final ProvidedGenericRecursiveType<String> recurse;
+
+        public ProvidedGenericRecursiveTypeContainer(ProvidedGenericRecursiveType<String> recurse) {
+            this.recurse = recurse;
+        }
+
+        @Override public boolean equals(Object obj) { return defaultEquals(this, obj); }
+        @Override public int hashCode() { return defaultHashCode(this); }
+    }
+}
@@ -0,0 +1,100 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.SharedPrefabValueCacheStatistics;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.util.Objects;
+
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.*;
+
+public class SharedPrefabValueCacheTest {
+    @Test
+    public void countHits_whenVerificationsShareTheirPrefabValues() {
+        verifyWithSharedCache();
+        SharedPrefabValueCacheStatistics before = EqualsVerifier.sharedPrefabValueCacheStatistics();
+        verifyWithSharedCache();
+        SharedPrefabValueCacheStatistics after = EqualsVerifier.sharedPrefabValueCacheStatistics();
+
+        assertEquals(before.getHits() + 1, after.getHits());
+        assertEquals(before.getMisses(), after.getMisses());
+        assertTrue(after.getValueHits() > before.getValueHits());
+    }
+
+    @Test
+    public void countHits_whenSamePrefabValueInstancesAreAddedAgain() {
+        Point red = new Point(1, 2);
+        Point black = new Point(2, 3);
+        verifyWithSharedCache(red, black);
+        SharedPrefabValueCacheStatistics before = EqualsVerifier.sharedPrefabValueCacheStatistics();
+        verifyWithSharedCache(red, black);
+        SharedPrefabValueCacheStatistics after = EqualsVerifier.sharedPrefabValueCacheStatistics();
+
+        assertEquals(before.getHits() + 1, after.getHits());
+        assertEquals(before.getMisses(), after.getMisses());
+    }
+
+    @Test
+    public void countMisses_whenEqualButNewPrefabValueInstancesAreAdded() {
+        verifyWithSharedCache(new Point(1, 2), new Point(2, 3));
+        SharedPrefabValueCacheStatistics before = EqualsVerifier.sharedPrefabValueCacheStatistics();
+        verifyWithSharedCache(new Point(1, 2), new Point(2, 3));
+        SharedPrefabValueCacheStatistics after = EqualsVerifier.sharedPrefabValueCacheStatistics();
+
+        assertEquals(before.getHits(), after.getHits());
+        assertEquals(before.getMisses() + 1, after.getMisses());
+    }
+
+    @Test
+    public void dontCount_whenCacheIsNotUsed() {
+        SharedPrefabValueCacheStatistics before = EqualsVerifier.sharedPrefabValueCacheStatistics();
+        EqualsVerifier.forClass(FinalPoint.class).verify();
+        SharedPrefabValueCacheStatistics after = EqualsVerifier.sharedPrefabValueCacheStatistics();
+
+        assertEquals(before.getHits(), after.getHits());
+        assertEquals(before.getMisses(), after.getMisses());
+    }
+
+    @Test
+    public void toStringShowsTheCounts() {
+        assertThat(EqualsVerifier.sharedPrefabValueCacheStatistics().toString(),
+                startsWith("SharedPrefabValueCacheStatistics[hits="));
+    }
+
+    private void verifyWithSharedCache() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .usingSharedPrefabValueCache()
+                .verify();
+    }
+
+    private void verifyWithSharedCache(Point red, Point black) {
+        EqualsVerifier.forClass(FinalPointContainer.class)
+                .withPrefabValues(Point.class, red, black)
+                .usingSharedPrefabValueCache()
+                .verify();
+    }
+
+    static final class FinalPointContainer {
+        private final Point point;
+
+        public FinalPointContainer(Point point) {
+            this.point = point;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FinalPointContainer)) {
+                return false;
+            }
+            return Objects.equals(point, ((FinalPointContainer)obj).point);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(point);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.TraceEventWriter;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.*;
+
+public class TraceEventWriterTest {
+    private static final Pattern SPAN = Pattern.compile(
+        "\\{\"name\":\"[^\"]*\",\"cat\":\"[a-z]+\",\"ph\":\"([BE])\",\"ts\":\\d+,\"pid\":1,\"tid\":(\\d+),.*},?");
+
+    private final StringWriter out = new StringWriter();
+
+    @Test
+    public void writeAValidJsonArray() throws IOException {
+        try (TraceEventWriter trace = new TraceEventWriter(out)) {
+            EqualsVerifier.forClass(FinalPoint.class)
+                    .withVerificationListener(trace)
+                    .verify();
+        }
+
+        List<String> lines = lines();
+        assertEquals("[", lines.get(0));
+        assertEquals("]", lines.get(lines.size() - 1));
+        for (String line : lines.subList(1, lines.size() - 2)) {
+            assertTrue(line, line.endsWith("},"));
+        }
+        assertTrue(lines.get(lines.size() - 2).endsWith("}"));
+    }
+
+    @Test
+    public void writeSpansForClassesAndPhases() throws IOException {
+        try (TraceEventWriter trace = new TraceEventWriter(out)) {
+            EqualsVerifier.forClass(FinalPoint.class)
+                    .withVerificationListener(trace)
+                    .verify();
+        }
+
+        String result = out.toString();
+        assertThat(result, containsString(
+            "{\"name\":\"FinalPoint\",\"cat\":\"verification\",\"ph\":\"B\""));
+        assertThat(result, containsString(
+            "\"args\":{\"class\":\"nl.jqno.equalsverifier.testhelpers.types.FinalPoint\"}}"));
+        assertThat(result, containsString("\"args\":{\"successful\":true}}"));
+        assertThat(result, containsString("{\"name\":\"SignatureChecker\",\"cat\":\"phase\",\"ph\":\"B\""));
+        assertThat(result, containsString("{\"name\":\"FieldsChecker\",\"cat\":\"phase\",\"ph\":\"E\""));
+        assertThat(result, containsString("\"name\":\"thread_name\""));
+    }
+
+    @Test
+    public void nestSpansPerThread_whenVerifyingInParallel() throws IOException {
+        try (TraceEventWriter trace = new TraceEventWriter(out)) {
+            EqualsVerifier.forClasses(Arrays.asList(FinalPoint.class, Point.class, FinalPoint.class, Point.class))
+                    .withVerificationListener(trace)
+                    .withVerificationListener(new WaitForBothThreads())
+                    .inParallel(2)
+                    .report();
+        }
+
+        Map<String, Integer> depths = new HashMap<>();
+        for (String line : lines()) {
+            Matcher m = SPAN.matcher(line);
+            if (m.matches()) {
+                int delta = "B".equals(m.group(1)) ? 1 : -1;
+                int depth = depths.merge(m.group(2), delta, Integer::sum);
+                assertTrue(depth >= 0);
+            }
+        }
+        assertEquals(2, depths.size());
+        for (int depth : depths.values()) {
+            assertEquals(0, depth);
+        }
+        assertThat(out.toString(), containsString("\"args\":{\"successful\":false}}"));
+    }
+
+    @Test
+    public void writeToFile() throws IOException {
+        Path file = Files.createTempFile("equalsverifier", ".json");
+        try {
+            try (TraceEventWriter trace = new TraceEventWriter(file)) {
+                EqualsVerifier.forClass(FinalPoint.class)
+                        .withVerificationListener(trace)
+                        .verify();
+            }
+            String result = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            assertThat(result, containsString("\"name\":\"FinalPoint\""));
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void flushEachClass_beforeTheFileIsClosed() throws IOException {
+        Path file = Files.createTempFile("equalsverifier", ".json");
+        try {
+            try (TraceEventWriter trace = new TraceEventWriter(file)) {
+                EqualsVerifier.forClass(FinalPoint.class)
+                        .withVerificationListener(trace)
+                        .verify();
+
+                String result = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                assertThat(result, containsString("\"args\":{\"successful\":true}}"));
+            }
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void ignoreEvents_whenClosed() throws IOException {
+        TraceEventWriter trace = new TraceEventWriter(out);
+        trace.close();
+        trace.close();
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(trace)
+                .verify();
+
+        assertFalse(out.toString().contains("FinalPoint"));
+    }
+
+    @Test
+    public void escapeNames() throws IOException {
+        try (TraceEventWriter trace = new TraceEventWriter(out)) {
+            trace.phaseStarted(FinalPoint.class, "a \"quoted\"\\\tphase");
+        }
+
+        assertThat(out.toString(), containsString("\"name\":\"a \\\"quoted\\\"\\\\\\u0009phase\""));
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void throwUncheckedException_whenWritingFails() {
+        new TraceEventWriter(new FailingWriter());
+    }
+
+    private List<String> lines() {
+        return Arrays.stream(out.toString().split("\n")).collect(Collectors.toList());
+    }
+
+    private static final class WaitForBothThreads implements VerificationListener {
+        private final CountDownLatch started = new CountDownLatch(2);
+
+        @Override
+        public void verificationStarted(Class<?> type) {
+            started.countDown();
+            try {
+                started.await(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class FailingWriter extends Writer {
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            throw new IOException("Failed");
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+}
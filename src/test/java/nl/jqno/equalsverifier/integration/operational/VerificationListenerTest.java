@@ -0,0 +1,249 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.junit.Assert.*;
+
+public class VerificationListenerTest {
+    private final RecordingListener listener = new RecordingListener();
+
+    @Test
+    public void reportVerificationAndPhases_inOrder() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(listener)
+                .verify();
+
+        List<String> expected = Arrays.asList(
+            "verificationStarted FinalPoint",
+            "phaseStarted FinalPoint configuration",
+            "phaseStarted FinalPoint annotations",
+            "phaseFinished FinalPoint annotations",
+            "phaseFinished FinalPoint configuration",
+            "phaseStarted FinalPoint SignatureChecker",
+            "phaseFinished FinalPoint SignatureChecker",
+            "phaseStarted FinalPoint AbstractDelegationChecker",
+            "phaseFinished FinalPoint AbstractDelegationChecker",
+            "phaseStarted FinalPoint NullChecker",
+            "phaseFinished FinalPoint NullChecker",
+            "phaseStarted FinalPoint CachedHashCodeChecker",
+            "phaseFinished FinalPoint CachedHashCodeChecker",
+            "phaseStarted FinalPoint ExamplesChecker",
+            "phaseFinished FinalPoint ExamplesChecker",
+            "phaseStarted FinalPoint HierarchyChecker",
+            "phaseFinished FinalPoint HierarchyChecker",
+            "phaseStarted FinalPoint FieldsChecker",
+            "phaseFinished FinalPoint FieldsChecker",
+            "verificationFinished FinalPoint true");
+        assertEquals(expected, listener.eventsWithoutFieldChecks());
+    }
+
+    @Test
+    public void reportFieldChecks_forEachField() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(listener)
+                .verify();
+
+        assertThat(listener.events, hasItems(
+            "fieldCheckStarted FinalPoint NullPointerExceptionFieldCheck x",
+            "fieldCheckFinished FinalPoint NullPointerExceptionFieldCheck x",
+            "fieldCheckStarted FinalPoint SymmetryFieldCheck x",
+            "fieldCheckFinished FinalPoint SymmetryFieldCheck x",
+            "fieldCheckStarted FinalPoint SymmetryFieldCheck y",
+            "fieldCheckFinished FinalPoint SymmetryFieldCheck y"));
+    }
+
+    @Test
+    public void reportDurations() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(listener)
+                .verify();
+
+        assertFalse(listener.durations.isEmpty());
+        for (long duration : listener.durations) {
+            assertTrue(duration >= 0);
+        }
+    }
+
+    @Test
+    public void reportFinishedEvents_whenVerificationFails() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(Point.class)
+                .withVerificationListener(listener)
+                .report();
+
+        assertFalse(report.isSuccessful());
+        List<String> events = listener.eventsWithoutFieldChecks();
+        assertEquals("verificationFinished Point false", events.get(events.size() - 1));
+        assertTrue(events.get(events.size() - 2).startsWith("phaseFinished Point "));
+    }
+
+    @Test
+    public void keepVerificationFailure_whenListenerFailsAfterwards() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(Point.class)
+                .withVerificationListener(new FailingListener())
+                .withVerificationListener(listener)
+                .report();
+
+        assertFalse(report.isSuccessful());
+        assertThat(report.getMessage(), containsString("Subclass"));
+        assertTrue(report.getCause().getSuppressed()[0] instanceof UncheckedIOException);
+        assertThat(listener.events, hasItem("verificationFinished Point false"));
+    }
+
+    @Test
+    public void reportListenerFailure_whenVerificationSucceeds() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(new FailingListener())
+                .report();
+
+        assertFalse(report.isSuccessful());
+        assertTrue(report.getCause() instanceof UncheckedIOException);
+    }
+
+    @Test
+    public void sendFinishedEventsToLaterListeners_whenListenerFailsAfterSuccessfulPhase() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(new FailingPhaseListener())
+                .withVerificationListener(listener)
+                .report();
+
+        assertFalse(report.isSuccessful());
+        assertTrue(report.getCause() instanceof UncheckedIOException);
+        assertThat(listener.events, hasItems(
+                "phaseFinished FinalPoint " + VerificationListener.ANNOTATIONS,
+                "phaseFinished FinalPoint " + VerificationListener.CONFIGURATION,
+                "verificationFinished FinalPoint false"));
+        assertEquals(countStarted(listener.events), countFinished(listener.events));
+    }
+
+    @Test
+    public void sendEventsToAllListeners() {
+        RecordingListener other = new RecordingListener();
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(listener)
+                .withVerificationListener(other)
+                .verify();
+
+        assertEquals(listener.events, other.events);
+    }
+
+    @Test
+    public void useListener_whenRegisteredOnConfiguredEqualsVerifier() {
+        EqualsVerifier.configure()
+                .withVerificationListener(listener)
+                .forClass(FinalPoint.class)
+                .verify();
+
+        assertThat(listener.events, hasItem("verificationFinished FinalPoint true"));
+    }
+
+    @Test
+    public void useListener_whenVerifyingSeveralClasses() {
+        EqualsVerifier.configure()
+                .withVerificationListener(listener)
+                .forClasses(Arrays.asList(FinalPoint.class, Point.class))
+                .report();
+
+        assertThat(listener.events, hasItems("verificationFinished FinalPoint true", "verificationFinished Point false"));
+    }
+
+    @Test
+    public void useListener_whenVerifyingSeveralClassesInParallel() {
+        EqualsVerifier.forClasses(Arrays.asList(FinalPoint.class, Point.class))
+                .withVerificationListener(listener)
+                .inParallel(2)
+                .report();
+
+        assertThat(listener.events, hasItems("verificationFinished FinalPoint true", "verificationFinished Point false"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void throwNullPointerException_whenListenerIsNull() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(null);
+    }
+
+    private static final class FailingListener implements VerificationListener {
+        @Override
+        public void verificationFinished(Class<?> type, long durationNanos, boolean successful) {
+            throw new UncheckedIOException(new IOException("Failed"));
+        }
+    }
+
+    private static final class FailingPhaseListener implements VerificationListener {
+        @Override
+        public void phaseFinished(Class<?> type, String phase, long durationNanos) {
+            throw new UncheckedIOException(new IOException("Failed"));
+        }
+    }
+
+    private static long countStarted(List<String> events) {
+        return events.stream().filter(e -> e.contains("Started ")).count();
+    }
+
+    private static long countFinished(List<String> events) {
+        return events.stream().filter(e -> e.contains("Finished ")).count();
+    }
+
+    private static final class RecordingListener implements VerificationListener {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final List<Long> durations = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void verificationStarted(Class<?> type) {
+            events.add("verificationStarted " + type.getSimpleName());
+        }
+
+        @Override
+        public void verificationFinished(Class<?> type, long durationNanos, boolean successful) {
+            events.add("verificationFinished " + type.getSimpleName() + " " + successful);
+            durations.add(durationNanos);
+        }
+
+        @Override
+        public void phaseStarted(Class<?> type, String phase) {
+            events.add("phaseStarted " + type.getSimpleName() + " " + phase);
+        }
+
+        @Override
+        public void phaseFinished(Class<?> type, String phase, long durationNanos) {
+            events.add("phaseFinished " + type.getSimpleName() + " " + phase);
+            durations.add(durationNanos);
+        }
+
+        @Override
+        public void fieldCheckStarted(Class<?> type, String check, String field) {
+            events.add("fieldCheckStarted " + type.getSimpleName() + " " + check + " " + field);
+        }
+
+        @Override
+        public void fieldCheckFinished(Class<?> type, String check, String field, long durationNanos) {
+            events.add("fieldCheckFinished " + type.getSimpleName() + " " + check + " " + field);
+            durations.add(durationNanos);
+        }
+
+        private List<String> eventsWithoutFieldChecks() {
+            List<String> result = new ArrayList<>();
+            for (String event : events) {
+                if (!event.startsWith("fieldCheck")) {
+                    result.add(event);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -18,6 +18,18 @@ public class WithPrefabValuesTest extends ExpectedExceptionTestBase {
                 .verify();
     }
 
+    @Test
+    public void succeed_whenPrefabValuesAreOfSameTypeAsClassUnderTest_givenUsingSharedPrefabValueCache() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withPrefabValues(FinalPoint.class, red, black)
+                .usingSharedPrefabValueCache()
+                .verify();
+        EqualsVerifier.forClass(FinalPoint.class)
+                .usingSharedPrefabValueCache()
+                .withPrefabValues(FinalPoint.class, red, black)
+                .verify();
+    }
+
     @Test
     public void throw_whenTypeIsNull() {
         expectException(NullPointerException.class);
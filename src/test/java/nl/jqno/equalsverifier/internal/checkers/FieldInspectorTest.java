@@ -11,10 +11,10 @@ import nl.jqno.equalsverifier.testhelpers.FactoryCacheFactory;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.Test;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 public class FieldInspectorTest {
     private final PrefabValues prefabValues = new PrefabValues(FactoryCacheFactory.withPrimitiveFactories());
@@ -36,6 +36,64 @@ public class FieldInspectorTest {
         inspector.checkWithNull(nullFields, annotationCache, new ResetObjectForEachIterationCheck());
     }
 
+    @Test
+    public void objectsAreReset_betweenChecksOnTheSameField() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        ResetObjectForEachIterationCheck check = new ResetObjectForEachIterationCheck();
+
+        inspector.check(Arrays.asList(check, check, check));
+    }
+
+    @Test
+    public void allChecksRunOnAFieldBeforeTheNextField() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        List<String> calls = new ArrayList<>();
+
+        FieldCheck first = (r, c) -> calls.add("first " + r.getFieldName());
+        FieldCheck second = (r, c) -> calls.add("second " + r.getFieldName());
+        inspector.check(Arrays.asList(first, second));
+
+        assertEquals(Arrays.asList("first x", "second x", "first y", "second y"), calls);
+    }
+
+    @Test
+    public void reportTheFirstFailureOfTheFirstCheck_whenALaterCheckFailsOnAnEarlierField() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+
+        FieldCheck first = failOn("y", "first y");
+        FieldCheck second = failOn("x", "second x");
+        try {
+            inspector.check(Arrays.asList(first, second));
+            fail("Should have failed");
+        }
+        catch (IllegalStateException e) {
+            assertEquals("first y", e.getMessage());
+        }
+    }
+
+    @Test
+    public void reportTheFailureOfTheLaterCheck_whenTheFirstCheckPassesOnAllFields() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+
+        FieldCheck first = (r, c) -> {};
+        FieldCheck second = failOn("x", "second x");
+        try {
+            inspector.check(Arrays.asList(first, second));
+            fail("Should have failed");
+        }
+        catch (IllegalStateException e) {
+            assertEquals("second x", e.getMessage());
+        }
+    }
+
+    private static FieldCheck failOn(String fieldName, String message) {
+        return (r, c) -> {
+            if (r.getFieldName().equals(fieldName)) {
+                throw new IllegalStateException(message);
+            }
+        };
+    }
+
     private final class ResetObjectForEachIterationCheck implements FieldCheck {
         private Object originalReference;
         private Object originalChanged;
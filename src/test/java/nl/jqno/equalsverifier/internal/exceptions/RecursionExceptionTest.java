@@ -1,25 +1,30 @@
 package nl.jqno.equalsverifier.internal.exceptions;
 
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.Test;
 
-import java.util.LinkedHashSet;
-
 import static org.junit.Assert.assertTrue;
 
 public class RecursionExceptionTest {
     @Test
     public void descriptionContainsAllTypes() {
-        LinkedHashSet<TypeTag> stack = new LinkedHashSet<>();
-        stack.add(new TypeTag(String.class));
-        stack.add(new TypeTag(Point.class));
-        stack.add(new TypeTag(Object.class));
+        TypeStack stack = TypeStack.of(new TypeTag(String.class), new TypeTag(Point.class), new TypeTag(Object.class));
 
         String message = new RecursionException(stack).getDescription();
 
-        for (TypeTag tag : stack) {
+        for (TypeTag tag : stack.toList()) {
             assertTrue(message.contains(tag.toString()));
         }
     }
+
+    @Test
+    public void descriptionListsTypesInTheOrderInWhichTheyWereEncountered() {
+        TypeStack stack = TypeStack.of(new TypeTag(String.class), new TypeTag(Point.class), new TypeTag(Object.class));
+
+        String message = new RecursionException(stack).getDescription();
+
+        assertTrue(message.endsWith("types: String, Point, Object."));
+    }
 }
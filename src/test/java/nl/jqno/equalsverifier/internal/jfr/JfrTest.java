@@ -0,0 +1,34 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JfrTest {
+    @Test
+    public void recorderIsAlwaysAvailable() {
+        assertNotNull(Jfr.recorder());
+    }
+
+    @Test
+    public void recordNothing_whenRecorderClassDoesNotExist() {
+        assertSame(Jfr.NONE, Jfr.load("nl.jqno.equalsverifier.internal.jfr.DoesNotExist"));
+    }
+
+    @Test
+    public void recordNothing_whenRecorderClassIsNotARecorder() {
+        assertSame(Jfr.NONE, Jfr.load("java.lang.Object"));
+    }
+
+    @Test
+    public void noneHasNoVerificationListener() {
+        assertNull(Jfr.NONE.verificationListener());
+    }
+
+    @Test
+    public void noneRunsTheCreatorAndTheGenerator() {
+        assertEquals("values", Jfr.NONE.prefabValues(new TypeTag(String.class), () -> "values"));
+        assertEquals("subclass", Jfr.NONE.dynamicSubclass(Object.class, () -> "subclass"));
+    }
+}
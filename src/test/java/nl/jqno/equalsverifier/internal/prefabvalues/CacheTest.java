@@ -1,10 +1,14 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
+import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
 
 public class CacheTest {
     private static final TypeTag STRING_TAG = new TypeTag(String.class);
@@ -39,4 +43,118 @@ public class CacheTest {
     public void doesntContain() {
         assertFalse(cache.contains(STRING_TAG));
     }
+
+    @Test
+    public void computeIfAbsentCreatesOnlyOnce() {
+        AtomicInteger count = new AtomicInteger();
+        cache.computeIfAbsent(STRING_TAG, TypeStack.EMPTY, () -> { count.incrementAndGet(); return STRING_TUPLE; });
+        Tuple<String> actual =
+            cache.computeIfAbsent(STRING_TAG, TypeStack.EMPTY, () -> { count.incrementAndGet(); return STRING_TUPLE; });
+
+        assertEquals(1, count.get());
+        assertSame(STRING_TUPLE, actual);
+    }
+
+    @Test
+    public void computeIfAbsentCreatesOnlyOnce_givenSeveralThreads() throws Exception {
+        int threads = 8;
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Tuple<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.computeIfAbsent(STRING_TAG, TypeStack.EMPTY, () -> {
+                        count.incrementAndGet();
+                        sleep();
+                        return STRING_TUPLE;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Tuple<String>> future : futures) {
+                assertSame(STRING_TUPLE, future.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, count.get());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failureIsNotCached() {
+        try {
+            cache.computeIfAbsent(STRING_TAG, TypeStack.EMPTY, () -> { throw new IllegalStateException(); });
+            fail("Expected an exception");
+        }
+        catch (IllegalStateException expected) {
+            // Expected
+        }
+
+        assertFalse(cache.contains(STRING_TAG));
+        assertSame(STRING_TUPLE, cache.computeIfAbsent(STRING_TAG, TypeStack.EMPTY, () -> STRING_TUPLE));
+    }
+
+    @Test(expected = RecursionException.class)
+    public void computeIfAbsentThrowsRecursionException_whenCreatorAsksForSameTag() {
+        cache.computeIfAbsent(STRING_TAG, TypeStack.EMPTY,
+            () -> cache.computeIfAbsent(STRING_TAG, TypeStack.EMPTY, () -> STRING_TUPLE));
+    }
+
+    @Test(timeout = 10_000)
+    public void computeIfAbsentThrowsRecursionExceptionInsteadOfDeadlock_whenThreadsWaitForEachOther() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> createDependingOn(STRING_TAG, INT_TAG, bothStarted));
+            Future<?> second = executor.submit(() -> createDependingOn(INT_TAG, STRING_TAG, bothStarted));
+
+            int recursions = countRecursionExceptions(first) + countRecursionExceptions(second);
+            assertTrue(recursions > 0);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Tuple<String> createDependingOn(TypeTag tag, TypeTag dependency, CountDownLatch bothStarted) {
+        return cache.computeIfAbsent(tag, TypeStack.EMPTY, () -> {
+            bothStarted.countDown();
+            awaitUninterruptibly(bothStarted);
+            cache.computeIfAbsent(dependency, TypeStack.EMPTY, () -> STRING_TUPLE);
+            return STRING_TUPLE;
+        });
+    }
+
+    private int countRecursionExceptions(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+            return 0;
+        }
+        catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RecursionException);
+            return 1;
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        }
+        catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -4,6 +4,8 @@ import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.SimpleFactory;
 import org.junit.Test;
 
+import java.util.*;
+
 import static org.junit.Assert.*;
 
 public class FactoryCacheTest {
@@ -45,4 +47,56 @@ public class FactoryCacheTest {
     public void doesntContain() {
         assertFalse(cache.contains(STRING_CLASS));
     }
+
+    @Test
+    public void overlayFindsFactoriesFromParent() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache overlay = cache.overlay();
+        assertTrue(overlay.contains(STRING_CLASS));
+        assertEquals(STRING_FACTORY, overlay.get(STRING_CLASS));
+    }
+
+    @Test
+    public void overlayDoesNotModifyParent() {
+        FactoryCache overlay = cache.overlay();
+        overlay.put(INT_CLASS, INT_FACTORY);
+        assertTrue(overlay.contains(INT_CLASS));
+        assertFalse(cache.contains(INT_CLASS));
+    }
+
+    @Test
+    public void overlayShadowsParent() {
+        PrefabValueFactory<String> otherFactory = new SimpleFactory<>("one", "two", new String("one"));
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache overlay = cache.overlay();
+        overlay.put(STRING_CLASS, otherFactory);
+        assertEquals(otherFactory, overlay.get(STRING_CLASS));
+        assertEquals(STRING_FACTORY, cache.get(STRING_CLASS));
+    }
+
+    @Test
+    public void mergeOverlayKeepsParentAndBothCaches() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache overlay = cache.overlay();
+        FactoryCache other = new FactoryCache();
+        other.put(INT_CLASS, INT_FACTORY);
+
+        FactoryCache merged = overlay.merge(other);
+        assertEquals(STRING_FACTORY, merged.get(STRING_CLASS));
+        assertEquals(INT_FACTORY, merged.get(INT_CLASS));
+        assertFalse(overlay.contains(INT_CLASS));
+    }
+
+    @Test
+    public void overlayIteratesOverParentAndOwnFactories() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache overlay = cache.overlay();
+        overlay.put(INT_CLASS, INT_FACTORY);
+
+        Set<String> keys = new HashSet<>();
+        for (Map.Entry<String, PrefabValueFactory<?>> entry : overlay) {
+            keys.add(entry.getKey());
+        }
+        assertEquals(new HashSet<>(Arrays.asList(STRING_CLASS.getName(), INT_CLASS.getName())), keys);
+    }
 }
@@ -0,0 +1,26 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.factories.LazyFactory;
+import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class JavaApiPrefabValuesTest {
+    @Test
+    public void lazyValuesAreValidWhenTheyAreCreated() {
+        int lazyFactories = 0;
+        for (Map.Entry<String, PrefabValueFactory<?>> entry : JavaApiPrefabValues.build()) {
+            if (entry.getValue() instanceof LazyFactory) {
+                lazyFactories += 1;
+                Tuple<?> tuple = entry.getValue().createValues(null, null, TypeStack.EMPTY);
+                assertNotNull(entry.getKey(), tuple.getRed());
+                assertNotNull(entry.getKey(), tuple.getRedCopy());
+                assertNotEquals(entry.getKey(), tuple.getRed(), tuple.getBlack());
+            }
+        }
+        assertTrue(lazyFactories > 0);
+    }
+}
@@ -9,7 +9,6 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 
 import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
@@ -246,7 +245,7 @@ public class PrefabValuesTest {
         public AppendingStringTestFactory() { red = ""; black = ""; }
 
         @Override
-        public Tuple<String> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+        public Tuple<String> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
             red += "r"; black += "b";
             return new Tuple<>(red, black, new String(red));
         }
@@ -256,7 +255,7 @@ public class PrefabValuesTest {
     private static class ListTestFactory implements PrefabValueFactory<List> {
         @Override
         @SuppressWarnings("unchecked")
-        public Tuple<List> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+        public Tuple<List> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
             TypeTag subtag = tag.getGenericTypes().get(0);
 
             List red = new ArrayList<>();
@@ -0,0 +1,160 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.internal.prefabvalues.factories.SimpleFactory;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SharedPrefabValuesTest {
+    private static final TypeTag POINT_TAG = new TypeTag(Point.class);
+    private static final FactoryCache DEFAULTS = JavaApiPrefabValues.build();
+
+    @Before
+    public void setUp() {
+        SharedPrefabValues.clear();
+    }
+
+    @After
+    public void tearDown() {
+        SharedPrefabValues.clear();
+    }
+
+    @Test
+    public void sameInstance_givenSameClassLoaderAndNoFactories() {
+        PrefabValues first = SharedPrefabValues.get(Point.class, DEFAULTS, new FactoryCache());
+        PrefabValues second = SharedPrefabValues.get(String.class, DEFAULTS, new FactoryCache());
+        assertSame(first, SharedPrefabValues.get(Point.class, DEFAULTS, new FactoryCache()));
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void sameInstance_givenSameFactoryInstances() {
+        Point red = new Point(1, 2);
+        Point black = new Point(2, 3);
+        PrefabValues first = SharedPrefabValues.get(Point.class, DEFAULTS, factoryCacheFor(red, black));
+        assertSame(first, SharedPrefabValues.get(Point.class, DEFAULTS, factoryCacheFor(red, black)));
+    }
+
+    @Test
+    public void differentInstance_givenDifferentFactories() {
+        PrefabValues first = SharedPrefabValues.get(Point.class, DEFAULTS, factoryCacheFor(new Point(1, 2), new Point(2, 3)));
+        PrefabValues second = SharedPrefabValues.get(Point.class, DEFAULTS, factoryCacheFor(new Point(1, 2), new Point(2, 3)));
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void differentInstance_givenDifferentDefaultFactories() {
+        PrefabValues first = SharedPrefabValues.get(Point.class, DEFAULTS, new FactoryCache());
+        PrefabValues second = SharedPrefabValues.get(Point.class, JavaApiPrefabValues.build(), new FactoryCache());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void userFactoriesAreUsed() {
+        Point red = new Point(1, 2);
+        Point black = new Point(2, 3);
+        PrefabValues prefabValues = SharedPrefabValues.get(Point.class, DEFAULTS, factoryCacheFor(red, black));
+        assertSame(red, prefabValues.giveRed(POINT_TAG));
+        assertSame(black, prefabValues.giveBlack(POINT_TAG));
+    }
+
+    @Test
+    public void leastRecentlyUsedConfigurationIsEvicted() {
+        PrefabValues first = SharedPrefabValues.get(Point.class, DEFAULTS, new FactoryCache());
+        for (int i = 0; i < SharedPrefabValues.MAX_CONFIGURATIONS; i++) {
+            SharedPrefabValues.get(Point.class, DEFAULTS, factoryCacheFor(new Point(i, i), new Point(i, i + 1)));
+        }
+
+        assertEquals(1, SharedPrefabValues.statistics().getEvictions());
+        assertNotSame(first, SharedPrefabValues.get(Point.class, DEFAULTS, new FactoryCache()));
+    }
+
+    @Test
+    public void evictedConfigurationKeepsItsValues_whileItIsStillInUse() {
+        PrefabValues prefabValues = SharedPrefabValues.get(Point.class, DEFAULTS, new FactoryCache());
+        Object red = prefabValues.giveRed(POINT_TAG);
+
+        overflowConfigurations();
+
+        assertEquals(1, SharedPrefabValues.statistics().getEvictions());
+        assertSame(red, prefabValues.giveRed(POINT_TAG));
+    }
+
+    @Test
+    public void verificationSucceeds_whenItsConfigurationIsEvictedWhileItRuns() {
+        EqualsVerifier.forClass(IdentityContainer.class)
+                .usingSharedPrefabValueCache()
+                .withVerificationListener(new VerificationListener() {
+                    @Override
+                    public void phaseStarted(Class<?> type, String phase) {
+                        overflowConfigurations();
+                    }
+                })
+                .verify();
+
+        assertTrue(SharedPrefabValues.statistics().getEvictions() > 0);
+    }
+
+    @Test
+    public void statisticsCountHitsAndMisses() {
+        PrefabValues prefabValues = SharedPrefabValues.get(Point.class, DEFAULTS, new FactoryCache());
+        SharedPrefabValues.get(Point.class, DEFAULTS, new FactoryCache());
+        prefabValues.giveRed(POINT_TAG);
+        prefabValues.giveBlack(POINT_TAG);
+
+        SharedPrefabValues.Statistics statistics = SharedPrefabValues.statistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(0, statistics.getEvictions());
+        assertTrue(statistics.getValueHits() >= 1);
+        assertTrue(statistics.getValueMisses() >= 1);
+        assertTrue(statistics.toString().contains("hits=1, misses=1, evictions=0"));
+    }
+
+    @Test
+    public void clearResetsStatistics() {
+        SharedPrefabValues.get(Point.class, DEFAULTS, new FactoryCache());
+        SharedPrefabValues.clear();
+        assertEquals(0, SharedPrefabValues.statistics().getMisses());
+    }
+
+    private void overflowConfigurations() {
+        for (int i = 0; i < SharedPrefabValues.MAX_CONFIGURATIONS; i++) {
+            SharedPrefabValues.get(Point.class, DEFAULTS, factoryCacheFor(new Point(i, i), new Point(i, i + 1)));
+        }
+    }
+
+    private FactoryCache factoryCacheFor(Point red, Point black) {
+        FactoryCache result = new FactoryCache();
+        result.put(Point.class, new SimpleFactory<>(red, black, new Point(red.x, red.y)));
+        return result;
+    }
+
+    static final class Identity {}
+
+    static final class IdentityContainer {
+        private final Identity identity;
+
+        IdentityContainer(Identity identity) {
+            this.identity = identity;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof IdentityContainer)) {
+                return false;
+            }
+            return identity == ((IdentityContainer)obj).identity;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(identity);
+        }
+    }
+}
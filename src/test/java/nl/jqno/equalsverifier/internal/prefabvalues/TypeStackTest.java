@@ -0,0 +1,49 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class TypeStackTest {
+    private static final TypeTag STRING_TAG = new TypeTag(String.class);
+    private static final TypeTag POINT_TAG = new TypeTag(Point.class);
+    private static final TypeTag OBJECT_TAG = new TypeTag(Object.class);
+
+    @Test
+    public void emptyStack() {
+        assertTrue(TypeStack.EMPTY.isEmpty());
+        assertEquals(0, TypeStack.EMPTY.size());
+        assertFalse(TypeStack.EMPTY.contains(STRING_TAG));
+        assertEquals(Collections.emptyList(), TypeStack.EMPTY.toList());
+    }
+
+    @Test
+    public void pushDoesNotModifyTheOriginalStack() {
+        TypeStack original = TypeStack.of(STRING_TAG);
+        TypeStack pushed = original.push(POINT_TAG);
+
+        assertEquals(1, original.size());
+        assertFalse(original.contains(POINT_TAG));
+        assertEquals(2, pushed.size());
+        assertTrue(pushed.contains(POINT_TAG));
+        assertTrue(pushed.contains(STRING_TAG));
+    }
+
+    @Test
+    public void containsUsesEquality() {
+        TypeStack stack = TypeStack.of(new TypeTag(Point.class));
+        assertTrue(stack.contains(POINT_TAG));
+        assertFalse(stack.contains(OBJECT_TAG));
+    }
+
+    @Test
+    public void toListIsOldestFirst() {
+        TypeStack stack = TypeStack.of(STRING_TAG, POINT_TAG, OBJECT_TAG);
+        assertEquals(Arrays.asList(STRING_TAG, POINT_TAG, OBJECT_TAG), stack.toList());
+        assertEquals("[String, Point, Object]", stack.toString());
+    }
+}
@@ -9,10 +9,12 @@ import org.junit.rules.ExpectedException;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 public class TypeTagTest {
     private static final TypeTag SOME_LONG_TYPETAG =
@@ -25,6 +27,7 @@ public class TypeTagTest {
     public void equalsAndHashCode() {
         EqualsVerifier.forClass(TypeTag.class)
                 .withPrefabValues(TypeTag.class, new TypeTag(Integer.class), SOME_LONG_TYPETAG)
+                .withCachedHashCode("cachedHashCode", "calculateHashCode", SOME_LONG_TYPETAG)
                 .suppress(Warning.NULL_FIELDS)
                 .verify();
     }
@@ -46,6 +49,60 @@ public class TypeTagTest {
         assertEquals(expected, SOME_LONG_TYPETAG.getGenericTypes());
     }
 
+    @Test
+    public void genericTypesCannotBeModifiedAfterConstruction() {
+        TypeTag[] genericTypes = { new TypeTag(String.class) };
+        TypeTag tag = new TypeTag(List.class, genericTypes);
+        int hashCode = tag.hashCode();
+
+        genericTypes[0] = new TypeTag(Integer.class);
+
+        assertEquals(new TypeTag(List.class, new TypeTag(String.class)), tag);
+        assertEquals(hashCode, tag.hashCode());
+    }
+
+    @Test
+    public void resolvingTheSameFieldTwiceReturnsTheSameInstance() throws Exception {
+        Field enclosingField = ContainerContainer.class.getDeclaredField("stringContainer");
+        TypeTag enclosingType = TypeTag.of(enclosingField, TypeTag.NULL);
+        Field f = Container.class.getDeclaredField("ts");
+
+        assertSame(TypeTag.of(f, enclosingType), TypeTag.of(f, enclosingType));
+        assertSame(TypeTag.of(f, enclosingType), TypeTag.of(f, TypeTag.of(enclosingField, TypeTag.NULL)));
+    }
+
+    @Test
+    public void resolvingTheSameFieldInADifferentEnclosingTypeReturnsADifferentTag() throws Exception {
+        Field f = Container.class.getDeclaredField("t");
+        TypeTag stringTag = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(String.class)));
+        TypeTag integerTag = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(Integer.class)));
+
+        assertEquals(new TypeTag(String.class), stringTag);
+        assertEquals(new TypeTag(Integer.class), integerTag);
+    }
+
+    @Test
+    public void resolvingAFieldIsNotCached_whenTheDeclaringClassDoesntKeepTheEnclosingTypeAlive() throws Exception {
+        Field f = TreeMap.class.getDeclaredField("comparator");
+        TypeTag enclosingType = new TypeTag(TreeMap.class, new TypeTag(Point.class), new TypeTag(Point.class));
+
+        assertEquals(new TypeTag(Comparator.class, new TypeTag(Point.class)), TypeTag.of(f, enclosingType));
+        assertNotSame(TypeTag.of(f, enclosingType), TypeTag.of(f, enclosingType));
+    }
+
+    @Test
+    public void resolvingAFieldIsOnlyCachedForALimitedNumberOfEnclosingTypes() throws Exception {
+        Field f = CappedContainer.class.getDeclaredField("ts");
+        TypeTag enclosingType = new TypeTag(String.class);
+        for (int i = 0; i < TypeTag.MAX_RESOLVED_PER_FIELD; i++) {
+            enclosingType = new TypeTag(CappedContainer.class, enclosingType);
+            assertSame(TypeTag.of(f, enclosingType), TypeTag.of(f, enclosingType));
+        }
+
+        TypeTag oneTooMany = new TypeTag(CappedContainer.class, enclosingType);
+        assertNotSame(TypeTag.of(f, oneTooMany), TypeTag.of(f, oneTooMany));
+    }
+
     @Test
     public void testToString() {
         assertEquals("String", new TypeTag(String.class).toString());
@@ -126,6 +183,11 @@ public class TypeTagTest {
         Container<String> stringContainer;
     }
 
+    @SuppressWarnings("unused")
+    static class CappedContainer<T> {
+        List<T> ts;
+    }
+
     @SuppressWarnings("unused")
     static class Container<T> {
         T t;
@@ -0,0 +1,57 @@
+package nl.jqno.equalsverifier.internal.prefabvalues.factories;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import org.junit.Test;
+
+import javax.naming.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class ExternalFactoryTest {
+    private static final TypeTag REFERENCE_TAG = new TypeTag(Reference.class);
+
+    @Test
+    public void createValues() {
+        ExternalFactory<Reference> factory = new ExternalFactory<>("JavaxFactoryProvider");
+        PrefabValues prefabValues = new PrefabValues(JavaApiPrefabValues.build());
+
+        Tuple<Reference> tuple = factory.createValues(REFERENCE_TAG, prefabValues, TypeStack.EMPTY);
+
+        assertEquals(new Reference("one"), tuple.getRed());
+        assertEquals(new Reference("two"), tuple.getBlack());
+    }
+
+    @Test
+    public void providerIsSharedBetweenInstances() {
+        ExternalFactory<Reference> first = new ExternalFactory<>("JavaxFactoryProvider");
+        ExternalFactory<Reference> second = new ExternalFactory<>("JavaxFactoryProvider");
+        assertSame(first.getFactoryCache(), second.getFactoryCache());
+    }
+
+    @Test
+    public void providerIsSharedBetweenThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<FactoryCache>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> new ExternalFactory<>("JodaFactoryProvider").getFactoryCache()));
+            }
+
+            FactoryCache expected = futures.get(0).get();
+            for (Future<FactoryCache> future : futures) {
+                assertSame(expected, future.get());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+}
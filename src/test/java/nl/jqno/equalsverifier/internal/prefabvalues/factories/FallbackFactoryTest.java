@@ -4,6 +4,7 @@ import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
 import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.Node;
@@ -15,8 +16,6 @@ import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.TwoElementEnum;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.LinkedHashSet;
-
 import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
 import static nl.jqno.equalsverifier.testhelpers.Util.defaultEquals;
 import static nl.jqno.equalsverifier.testhelpers.Util.defaultHashCode;
@@ -26,7 +25,7 @@ import static org.junit.Assert.assertEquals;
 public class FallbackFactoryTest extends ExpectedExceptionTestBase {
     private FallbackFactory<?> factory;
     private PrefabValues prefabValues;
-    private LinkedHashSet<TypeTag> typeStack;
+    private TypeStack typeStack;
 
     @Before
     public void setUp() {
@@ -34,7 +33,7 @@ public class FallbackFactoryTest extends ExpectedExceptionTestBase {
         FactoryCache factoryCache = new FactoryCache();
         factoryCache.put(int.class, values(42, 1337, 42));
         prefabValues = new PrefabValues(factoryCache);
-        typeStack = new LinkedHashSet<>();
+        typeStack = TypeStack.EMPTY;
     }
 
     @Test
@@ -0,0 +1,42 @@
+package nl.jqno.equalsverifier.internal.prefabvalues.factories;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class LazyFactoryTest {
+    private final AtomicInteger count = new AtomicInteger();
+    private final PrefabValueFactory<String> factory = Factories.lazyValues(
+        () -> {
+            count.incrementAndGet();
+            return "red";
+        },
+        () -> "black",
+        () -> new String("red"));
+
+    @Test
+    public void valuesAreNotCreatedUpFront() {
+        assertEquals(0, count.get());
+    }
+
+    @Test
+    public void createValues() {
+        Tuple<String> tuple = factory.createValues(null, null, TypeStack.EMPTY);
+        assertEquals("red", tuple.getRed());
+        assertEquals("black", tuple.getBlack());
+        assertEquals("red", tuple.getRedCopy());
+        assertNotSame(tuple.getRed(), tuple.getRedCopy());
+    }
+
+    @Test
+    public void valuesAreCreatedOnlyOnce() {
+        Tuple<String> first = factory.createValues(null, null, TypeStack.EMPTY);
+        Tuple<String> second = factory.createValues(null, null, TypeStack.EMPTY);
+        assertSame(first, second);
+        assertEquals(1, count.get());
+    }
+}
@@ -2,8 +2,7 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.*;
 
 public class SimpleFactoryTest {
     private SimpleFactory<String> factory = new SimpleFactory<>("red", "black", new String("red"));
@@ -24,4 +23,22 @@ public class SimpleFactoryTest {
         assertEquals("red", redCopy);
         assertNotSame("red", redCopy);
     }
+
+    @Test
+    public void equalWhenRedAndBlackAreTheSameInstances() {
+        SimpleFactory<String> other = new SimpleFactory<>("red", "black", new String("red"));
+        assertEquals(factory, other);
+        assertEquals(factory.hashCode(), other.hashCode());
+    }
+
+    @Test
+    public void notEqualWhenRedIsAnEqualButDifferentInstance() {
+        SimpleFactory<String> other = new SimpleFactory<>(new String("red"), "black", "red");
+        assertNotEquals(factory, other);
+    }
+
+    @Test
+    public void notEqualToOtherFactories() {
+        assertNotEquals(factory, new FallbackFactory<String>());
+    }
 }
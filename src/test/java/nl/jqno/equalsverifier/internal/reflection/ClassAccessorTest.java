@@ -180,6 +180,24 @@ public class ClassAccessorTest {
         assertEquals(foo, objectAccessor.get());
     }
 
+    @Test
+    public void getRedObjectReturnsFreshCopies() {
+        PointContainer first = pointContainerAccessor.getRedObject(TypeTag.NULL);
+        PointContainer second = pointContainerAccessor.getRedObject(TypeTag.NULL);
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void modifyingRedObjectDoesNotAffectNextRedObject() {
+        ObjectAccessor<PointContainer> first = pointContainerAccessor.getRedAccessor(TypeTag.NULL);
+        PointContainer expected = first.copy();
+        for (Field f : FieldIterable.of(PointContainer.class)) {
+            first.fieldAccessorFor(f).defaultField();
+        }
+        assertEquals(expected, pointContainerAccessor.getRedObject(TypeTag.NULL));
+    }
+
     @Test
     public void redAndBlackNotEqual() {
         PointContainer red = pointContainerAccessor.getRedObject(TypeTag.NULL);
@@ -0,0 +1,44 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.testhelpers.types.Color;
+import nl.jqno.equalsverifier.testhelpers.types.ColorPoint3D;
+import nl.jqno.equalsverifier.testhelpers.types.Point3D;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CopierTest {
+    @Test
+    public void copiesFieldsOfClassAndSuperclasses() {
+        ColorPoint3D from = new ColorPoint3D(1, 2, 3, Color.INDIGO);
+        ColorPoint3D to = Instantiator.of(ColorPoint3D.class).instantiate();
+        Copier copier = Copier.of(ColorPoint3D.class);
+
+        assertTrue(copier.canCopy(from, to));
+        copier.copy(from, to);
+        assertEquals(from, to);
+    }
+
+    @Test
+    public void copiesIntoSubclass() {
+        Point3D from = new Point3D(1, 2, 3);
+        ColorPoint3D to = Instantiator.of(ColorPoint3D.class).instantiate();
+        Copier copier = Copier.of(Point3D.class);
+
+        assertTrue(copier.canCopy(from, to));
+        copier.copy(from, to);
+        assertEquals(3, to.z);
+        assertEquals(from, to);
+    }
+
+    @Test
+    public void cannotCopyUnrelatedObject() {
+        Copier copier = Copier.of(Point3D.class);
+        assertFalse(copier.canCopy(new Point3D(1, 2, 3), "not a point"));
+    }
+
+    @Test
+    public void copierIsCached() {
+        assertSame(Copier.of(Point3D.class), Copier.of(Point3D.class));
+    }
+}
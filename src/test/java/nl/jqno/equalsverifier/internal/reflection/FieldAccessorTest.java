@@ -182,6 +182,13 @@ public class FieldAccessorTest {
         assertEquals(object, foo.field);
     }
 
+    @Test
+    public void setValueWidensPrimitive() {
+        AllTypesContainer foo = new AllTypesContainer();
+        setField(foo, "_long", 20);
+        assertEquals(20L, foo._long);
+    }
+
     @Test
     public void defaultFieldOnObjectSetsNull() {
         ObjectContainer foo = new ObjectContainer();
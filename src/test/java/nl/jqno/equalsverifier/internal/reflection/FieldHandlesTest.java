@@ -0,0 +1,220 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FieldHandlesTest {
+    @Test
+    public void copyPrimitive() throws Exception {
+        Container from = new Container();
+        Container to = new Container();
+        from.l = 1337L;
+
+        copy("l", from, to);
+        assertEquals(1337L, to.l);
+    }
+
+    @Test
+    public void copyObject() throws Exception {
+        Container from = new Container();
+        Container to = new Container();
+        from.s = "something";
+
+        copy("s", from, to);
+        assertEquals("something", to.s);
+    }
+
+    @Test
+    public void copyFinalField() throws Exception {
+        Container from = new Container(1);
+        Container to = new Container(2);
+
+        copy("f", from, to);
+        assertEquals(1, to.f);
+    }
+
+    @Test
+    public void makeFieldAccessible_whenHandleIsCreated() throws Exception {
+        Field field = Lazy.class.getDeclaredField("i");
+        assertFalse(canRead(field));
+
+        assertNotNull(FieldHandles.copyHandle(field));
+        assertTrue(canRead(field));
+    }
+
+    @Test
+    public void ofReturnsTheFieldsInTheSameOrderAsFieldIterable() {
+        List<Field> expected = new ArrayList<>();
+        FieldIterable.of(SubContainer.class).forEach(expected::add);
+
+        List<Field> actual = new ArrayList<>();
+        FieldHandles.of(SubContainer.class).forEach(h -> actual.add(h.getField()));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void ofIgnoringSuperReturnsOnlyTheDeclaredFields() {
+        List<FieldHandles> handles = FieldHandles.ofIgnoringSuper(SubContainer.class);
+        assertEquals(1, handles.size());
+        assertEquals("sub", handles.get(0).getField().getName());
+    }
+
+    @Test
+    public void ofReturnsTheSameTableEachTime() {
+        assertSame(FieldHandles.of(Container.class), FieldHandles.of(Container.class));
+    }
+
+    @Test
+    public void getAndSetPrimitive() {
+        Container container = new Container();
+        FieldHandles handles = handlesFor(Container.class, "l");
+
+        assertTrue(handles.canSet(container, 1337L));
+        handles.set(container, 1337L);
+        assertTrue(handles.canGet(container));
+        assertEquals(1337L, handles.get(container));
+    }
+
+    @Test
+    public void setPrimitiveToDefault() {
+        Container container = new Container();
+        container.l = 1337L;
+        FieldHandles handles = handlesFor(Container.class, "l");
+
+        assertTrue(handles.canSetToDefault(container));
+        handles.setToDefault(container);
+        assertEquals(0L, container.l);
+    }
+
+    @Test
+    public void setObjectToDefault() {
+        Container container = new Container();
+        container.s = "something";
+        FieldHandles handles = handlesFor(Container.class, "s");
+
+        handles.setToDefault(container);
+        assertNull(container.s);
+    }
+
+    @Test
+    public void setFinalFieldToDefault() {
+        Container container = new Container(1);
+        FieldHandles handles = handlesFor(Container.class, "f");
+
+        handles.setToDefault(container);
+        assertEquals(0, container.f);
+    }
+
+    @Test
+    public void leaveValuesThatNeedWideningToReflection() {
+        FieldHandles handles = handlesFor(Container.class, "l");
+        assertFalse(handles.canSet(new Container(), 1337));
+        assertFalse(handles.canSet(new Container(), null));
+    }
+
+    @Test
+    public void leaveOtherReceiversToReflection() {
+        FieldHandles handles = handlesFor(Container.class, "l");
+        assertFalse(handles.canGet(new Lazy()));
+        assertFalse(handles.canSetToDefault(new Lazy()));
+    }
+
+    @Test
+    public void staticFinalFieldCanBeReadButNotWritten() {
+        FieldHandles handles = handlesFor(Constants.class, "CONSTANT");
+        assertTrue(handles.canGet(null));
+        assertEquals("constant", handles.get(null));
+        assertFalse(handles.canSet(null, "other"));
+        assertFalse(handles.canSetToDefault(null));
+    }
+
+    @Test
+    public void propagateReturnsRuntimeException() {
+        RuntimeException e = new IllegalStateException();
+        assertSame(e, FieldHandles.propagate(e));
+    }
+
+    @Test
+    public void propagateWrapsCheckedException() {
+        Exception e = new Exception();
+        RuntimeException result = FieldHandles.propagate(e);
+        assertTrue(result instanceof ReflectionException);
+        assertSame(e, result.getCause());
+    }
+
+    @Test(expected = AssertionError.class)
+    public void propagateThrowsError() {
+        FieldHandles.propagate(new AssertionError());
+    }
+
+    private void copy(String fieldName, Object from, Object to) throws NoSuchFieldException {
+        MethodHandle handle = FieldHandles.copyHandle(Container.class.getDeclaredField(fieldName));
+        try {
+            handle.invokeExact(to, from);
+        }
+        catch (Throwable e) {
+            throw FieldHandles.propagate(e);
+        }
+    }
+
+    private static FieldHandles handlesFor(Class<?> type, String fieldName) {
+        for (FieldHandles handles : FieldHandles.of(type)) {
+            if (handles.getField().getName().equals(fieldName)) {
+                return handles;
+            }
+        }
+        throw new IllegalArgumentException(fieldName);
+    }
+
+    private static boolean canRead(Field field) {
+        try {
+            field.get(new Lazy());
+            return true;
+        }
+        catch (IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Lazy {
+        private int i;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Container {
+        private final int f;
+        private long l;
+        private String s;
+
+        private Container() {
+            this(0);
+        }
+
+        private Container(int f) {
+            this.f = f;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class SubContainer extends ContainerBase {
+        private int sub;
+    }
+
+    @SuppressWarnings("unused")
+    private static class ContainerBase {
+        private int base;
+    }
+
+    private static final class Constants {
+        private static final String CONSTANT = "constant";
+    }
+}
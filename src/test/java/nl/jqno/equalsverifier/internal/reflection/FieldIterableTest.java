@@ -10,6 +10,7 @@ import java.util.*;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 
 public class FieldIterableTest {
     private static final Set<Field> FIELD_CONTAINER_FIELDS = createFieldContainerFields();
@@ -49,6 +50,16 @@ public class FieldIterableTest {
         assertEquals(SUB_FIELD_CONTAINER_FIELDS, actual);
     }
 
+    @Test
+    public void fieldsAreSharedBetweenIterables() {
+        Iterator<Field> first = FieldIterable.of(DifferentAccessModifiersSubFieldContainer.class).iterator();
+        Iterator<Field> second = FieldIterable.of(DifferentAccessModifiersSubFieldContainer.class).iterator();
+        while (first.hasNext()) {
+            assertSame(first.next(), second.next());
+        }
+        assertFalse(second.hasNext());
+    }
+
     @Test
     public void noFields() {
         FieldIterable iterable = FieldIterable.of(NoFields.class);
@@ -9,7 +9,9 @@ import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.Interface;
 import org.junit.Test;
 import org.w3c.dom.Element;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.*;
 
@@ -21,6 +23,13 @@ public class InstantiatorTest {
         assertEquals(Point.class, p.getClass());
     }
 
+    @Test
+    public void instantiateTwiceGivesDifferentInstances() {
+        Point first = Instantiator.of(Point.class).instantiate();
+        Point second = Instantiator.of(Point.class).instantiate();
+        assertNotSame(first, second);
+    }
+
     @Test
     public void fieldsOfInstantiatedObjectHaveDefaultValues() {
         ColorBlindColorPoint p = Instantiator.of(ColorBlindColorPoint.class).instantiate();
@@ -87,4 +96,31 @@ public class InstantiatorTest {
         Class<?> actual = instantiator.instantiateAnonymousSubclass().getClass();
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void instantiateTheSameSubclassFromSeveralThreads() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Class<?>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return Instantiator.of(ConcurrentlySubclassed.class).instantiateAnonymousSubclass().getClass();
+                }));
+            }
+            start.countDown();
+
+            Class<?> expected = futures.get(0).get();
+            for (Future<Class<?>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    static class ConcurrentlySubclassed {}
 }
@@ -5,7 +5,10 @@ import nl.jqno.equalsverifier.testhelpers.types.PointContainer;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
@@ -28,4 +31,21 @@ public class ObjectAccessorTest {
         fieldAccessor.defaultField();
         assertNull(foo.getPoint());
     }
+
+    @Test
+    public void fieldAccessors() {
+        PointContainer foo = new PointContainer(new Point(1, 2));
+        List<Field> expected = new ArrayList<>();
+        FieldIterable.of(PointContainer.class).forEach(expected::add);
+
+        List<FieldAccessor> fieldAccessors = ObjectAccessor.of(foo).fieldAccessors();
+
+        assertEquals(expected.size(), fieldAccessors.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(foo, fieldAccessors.get(i).getObject());
+            assertEquals(expected.get(i), fieldAccessors.get(i).getField());
+        }
+        fieldAccessors.get(0).defaultField();
+        assertNull(foo.getPoint());
+    }
 }
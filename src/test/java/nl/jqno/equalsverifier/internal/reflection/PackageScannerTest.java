@@ -0,0 +1,45 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.B;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.C;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PackageScannerTest {
+    private static final String CORRECT_PACKAGE = "nl.jqno.equalsverifier.testhelpers.packages.correct";
+
+    @Test
+    public void findTheClassesInAPackage() {
+        assertEquals(Arrays.asList(A.class, B.class, C.class), PackageScanner.getClassesIn(CORRECT_PACKAGE));
+    }
+
+    @Test
+    public void findNothing_whenPackageDoesNotExist() {
+        assertTrue(PackageScanner.getClassesIn("nl.jqno.equalsverifier.doesnotexist").isEmpty());
+    }
+
+    @Test
+    public void doNotInitializeTheClasses() {
+        List<Class<?>> classes = PackageScanner.getClassesIn("nl.jqno.equalsverifier.testhelpers.packages.initializer");
+        assertEquals(1, classes.size());
+        assertEquals("FailsWhenInitialized", classes.get(0).getSimpleName());
+    }
+
+    @Test
+    public void findTheClassesInAPackage_whenContextClassLoaderIsNull() {
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(null);
+            assertEquals(Arrays.asList(A.class, B.class, C.class), PackageScanner.getClassesIn(CORRECT_PACKAGE));
+        }
+        finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CountersTest {
+    @Test
+    public void countNothing_whenNotStarted() {
+        Counters.instantiation();
+
+        Counters counters = Counters.start();
+        assertEquals(0, counters.stop().getInstantiations());
+    }
+
+    @Test
+    public void countEachKind() {
+        final Counters counters = Counters.start();
+        Counters.prefabValueHit();
+        Counters.prefabValueMiss();
+        Counters.prefabValueMiss();
+        Counters.instantiation();
+        Counters.dynamicSubclass();
+        Counters.fieldRead();
+        Counters.fieldWrite();
+        Counters.fieldsCopied(3);
+        Counters.equalsInvocation();
+        Counters.equalsInvocation();
+        Counters.hashCodeInvocation();
+        counters.stop();
+
+        assertEquals(1, counters.getPrefabValueHits());
+        assertEquals(2, counters.getPrefabValueMisses());
+        assertEquals(1, counters.getInstantiations());
+        assertEquals(1, counters.getDynamicSubclasses());
+        assertEquals(4, counters.getFieldReads());
+        assertEquals(4, counters.getFieldWrites());
+        assertEquals(2, counters.getEqualsInvocations());
+        assertEquals(1, counters.getHashCodeInvocations());
+    }
+
+    @Test
+    public void stopCounting_whenStopped() {
+        Counters counters = Counters.start();
+        counters.stop();
+        Counters.instantiation();
+
+        assertEquals(0, counters.getInstantiations());
+    }
+
+    @Test
+    public void resumeOuterCounters_whenInnerCountersStop() {
+        final Counters outer = Counters.start();
+        Counters.instantiation();
+        Counters inner = Counters.start();
+        Counters.instantiation();
+        inner.stop();
+        Counters.instantiation();
+        outer.stop();
+
+        assertEquals(1, inner.getInstantiations());
+        assertEquals(2, outer.getInstantiations());
+    }
+
+    @Test
+    public void countOnlyOnTheCurrentThread() throws InterruptedException {
+        Counters counters = Counters.start();
+        Thread other = new Thread(Counters::instantiation);
+        other.start();
+        other.join();
+        counters.stop();
+
+        assertEquals(0, counters.getInstantiations());
+    }
+}
@@ -0,0 +1,176 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.PrefabValuesProvider;
+import nl.jqno.equalsverifier.PrefabValuesRegistry;
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.testhelpers.ServiceClassLoader;
+import nl.jqno.equalsverifier.testhelpers.types.Pair;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ProvidedPrefabValuesTest {
+    private static final Point RED = new Point(1, 2);
+    private static final Point BLACK = new Point(2, 3);
+
+    @Test
+    public void javaApiFactoriesArePresent() {
+        FactoryCache cache = ProvidedPrefabValues.load(Collections.emptyList());
+        assertTrue(cache.contains(Optional.class));
+        assertFalse(cache.contains(Point.class));
+    }
+
+    @Test
+    public void factoriesFromProvidersAreAdded() {
+        PrefabValuesProvider points = registry -> registry.withPrefabValues(Point.class, RED, BLACK);
+        PrefabValuesProvider generics = registry -> registry
+                .withGenericPrefabValues(Comparable.class, a -> null)
+                .withGenericPrefabValues(Pair.class, Pair::new);
+
+        FactoryCache cache = ProvidedPrefabValues.load(Arrays.asList(points, generics));
+
+        assertSame(RED, cache.get(Point.class).createValues(new TypeTag(Point.class), null, TypeStack.EMPTY).getRed());
+        assertTrue(cache.contains(Comparable.class));
+        assertTrue(cache.contains(Pair.class));
+    }
+
+    @Test
+    public void providerValuesAreValidated() {
+        PrefabValuesProvider provider = registry -> registry.withPrefabValues(Point.class, RED, RED);
+        try {
+            ProvidedPrefabValues.load(Collections.singletonList(provider));
+            fail("Expected an IllegalStateException");
+        }
+        catch (IllegalStateException expected) {
+            // succeed
+        }
+    }
+
+    @Test
+    public void buildReturnsAnOverlay() {
+        FactoryCache first = ProvidedPrefabValues.build();
+        first.put(Point.class, null);
+        assertFalse(ProvidedPrefabValues.build().contains(Point.class));
+    }
+
+    @Test
+    public void providersAreLoadedThroughTheGivenClassLoader() {
+        ClassLoader loader = ServiceClassLoader.of(PrefabValuesProvider.class, PointProvider.class);
+        assertTrue(ProvidedPrefabValues.defaults(loader).contains(Point.class));
+        assertFalse(ProvidedPrefabValues.defaults(getClass().getClassLoader()).contains(Point.class));
+    }
+
+    @Test
+    public void failingProviderIsLoadedOnlyOnce() {
+        ClassLoader loader = ServiceClassLoader.of(PrefabValuesProvider.class, FailingProvider.class);
+        FailingProvider.LOADS.set(0);
+
+        IllegalStateException first = buildAndCatch(loader);
+        IllegalStateException second = buildAndCatch(loader);
+
+        assertSame(first, second);
+        assertEquals(1, FailingProvider.LOADS.get());
+    }
+
+    @Test
+    public void defaultsAreShared_givenTheSameClassLoader() {
+        ClassLoader loader = ServiceClassLoader.of(PrefabValuesProvider.class, PointProvider.class);
+        FactoryCache first = ProvidedPrefabValues.defaults(loader);
+        ProvidedPrefabValues.defaults(getClass().getClassLoader());
+
+        assertSame(first, ProvidedPrefabValues.defaults(loader));
+    }
+
+    @Test
+    public void providerThatCantBeLoadedIsLoadedOnlyOnce() {
+        ClassLoader loader = ServiceClassLoader.of(PrefabValuesProvider.class, UninstantiableProvider.class);
+        ServiceConfigurationError first = null;
+        try {
+            ProvidedPrefabValues.defaults(loader);
+            fail("Expected a ServiceConfigurationError");
+        }
+        catch (ServiceConfigurationError e) {
+            first = e;
+        }
+        try {
+            ProvidedPrefabValues.defaults(loader);
+            fail("Expected a ServiceConfigurationError");
+        }
+        catch (ServiceConfigurationError e) {
+            assertSame(first, e);
+        }
+    }
+
+    @Test
+    public void otherErrorsAreNotKept() {
+        ClassLoader loader = ServiceClassLoader.of(PrefabValuesProvider.class, OverflowingProvider.class);
+        OverflowingProvider.LOADS.set(0);
+
+        try {
+            ProvidedPrefabValues.defaults(loader);
+            fail("Expected a StackOverflowError");
+        }
+        catch (StackOverflowError expected) {
+            // succeed
+        }
+
+        assertTrue(ProvidedPrefabValues.defaults(loader).contains(Point.class));
+        assertEquals(2, OverflowingProvider.LOADS.get());
+    }
+
+    private IllegalStateException buildAndCatch(ClassLoader loader) {
+        try {
+            ProvidedPrefabValues.defaults(loader);
+            fail("Expected an IllegalStateException");
+            return null;
+        }
+        catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    public static final class PointProvider implements PrefabValuesProvider {
+        @Override
+        public void addPrefabValues(PrefabValuesRegistry registry) {
+            registry.withPrefabValues(Point.class, RED, BLACK);
+        }
+    }
+
+    public static final class FailingProvider implements PrefabValuesProvider {
+        private static final AtomicInteger LOADS = new AtomicInteger();
+
+        @Override
+        public void addPrefabValues(PrefabValuesRegistry registry) {
+            LOADS.incrementAndGet();
+            throw new IllegalStateException("Failed");
+        }
+    }
+
+    public static final class UninstantiableProvider implements PrefabValuesProvider {
+        private UninstantiableProvider() {}
+
+        @Override
+        public void addPrefabValues(PrefabValuesRegistry registry) {}
+    }
+
+    public static final class OverflowingProvider implements PrefabValuesProvider {
+        private static final AtomicInteger LOADS = new AtomicInteger();
+
+        @Override
+        public void addPrefabValues(PrefabValuesRegistry registry) {
+            if (LOADS.incrementAndGet() == 1) {
+                throw new StackOverflowError();
+            }
+            registry.withPrefabValues(Point.class, RED, BLACK);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.*;
+
+public class ViolationCollectorTest {
+    private final ViolationCollector collector = ViolationCollector.collecting();
+    private final Field field = fieldOf(Child.class, "field");
+    private final Field shadowedField = fieldOf(Parent.class, "field");
+    private final Field other = fieldOf(Child.class, "other");
+
+    @Test
+    public void throwFailure_whenNotCollecting() {
+        AssertionException failure = failure("failed");
+        try {
+            ViolationCollector.NONE.run("check", field, () -> { throw failure; });
+            fail("Should have failed");
+        }
+        catch (AssertionException e) {
+            assertSame(failure, e);
+        }
+        assertFalse(ViolationCollector.NONE.isCollecting());
+        assertTrue(ViolationCollector.NONE.getFailures().isEmpty());
+    }
+
+    @Test
+    public void recordFailure_whenCollecting() {
+        AssertionException failure = failure("failed");
+
+        assertTrue(collector.run("check", field, () -> {}));
+        assertFalse(collector.run("check", field, () -> { throw failure; }));
+
+        assertTrue(collector.isCollecting());
+        assertEquals(1, collector.getFailures().size());
+        ViolationCollector.Failure recorded = collector.getFailures().get(0);
+        assertEquals("check", recorded.getCheck());
+        assertEquals("field", recorded.getField());
+        assertEquals("failed", recorded.getDescription());
+        assertSame(failure, recorded.getCause());
+        assertTrue(collector.hasFailed("check"));
+        assertFalse(collector.hasFailed("other"));
+    }
+
+    @Test
+    public void skipChecksOnAField_whenAnEarlierCheckFailedOnIt() {
+        collector.run("first", field, () -> { throw failure("failed"); });
+
+        assertFalse(collector.run("second", field, () -> fail("Should have been skipped")));
+        assertTrue(collector.run("second", other, () -> {}));
+        assertEquals(1, collector.getFailures().size());
+    }
+
+    @Test
+    public void dontSkipChecksOnAField_whenAnEarlierCheckFailedOnAFieldItShadows() {
+        collector.run("first", shadowedField, () -> { throw failure("failed"); });
+
+        assertTrue(collector.run("second", field, () -> {}));
+        assertFalse(collector.run("second", shadowedField, () -> fail("Should have been skipped")));
+    }
+
+    @Test
+    public void dontSkipChecks_whenAnEarlierCheckWasNotAboutAField() {
+        collector.run("first", null, () -> { throw failure("failed"); });
+        collector.run("second", null, () -> { throw failure("failed again"); });
+
+        assertEquals(2, collector.getFailures().size());
+    }
+
+    @Test
+    public void passNonAssertionExceptionsThrough() {
+        try {
+            collector.run("check", field, () -> { throw new IllegalStateException(); });
+            fail("Should have failed");
+        }
+        catch (IllegalStateException expected) {
+            assertTrue(collector.getFailures().isEmpty());
+        }
+    }
+
+    @Test
+    public void runVerification_whenNotCollecting() {
+        StringBuilder ran = new StringBuilder();
+        ViolationCollector.NONE.verify(() -> ran.append("ran"));
+        assertEquals("ran", ran.toString());
+    }
+
+    @Test
+    public void doNothing_whenVerificationPasses() {
+        collector.verify(() -> collector.run("check", null, () -> {}));
+    }
+
+    @Test
+    public void throwTheFailureItself_whenASingleCheckFailed() {
+        AssertionException failure = failure("failed");
+        try {
+            collector.verify(() -> collector.run("check", null, () -> { throw failure; }));
+            fail("Should have failed");
+        }
+        catch (AssertionException e) {
+            assertSame(failure, e);
+        }
+    }
+
+    @Test
+    public void throwAllFailures_whenSeveralChecksFailed() {
+        AssertionException first = failure("first");
+        try {
+            collector.verify(() -> {
+                collector.run("check", field, () -> { throw first; });
+                collector.run("check", other, () -> { throw failure("second"); });
+            });
+            fail("Should have failed");
+        }
+        catch (AssertionException e) {
+            assertEquals("first\n-> second", e.getDescription());
+            assertSame(first, e.getCause());
+        }
+    }
+
+    @Test
+    public void rethrowException_whenVerificationEndsBeforeAnyCheckFailed() {
+        IllegalStateException problem = new IllegalStateException();
+        try {
+            collector.verify(() -> { throw problem; });
+            fail("Should have failed");
+        }
+        catch (IllegalStateException e) {
+            assertSame(problem, e);
+        }
+    }
+
+    @Test
+    public void recordException_whenVerificationEndsAfterACheckFailed() {
+        AssertionException problem = failure("can't continue");
+        try {
+            collector.verify(() -> {
+                collector.run("check", field, () -> { throw failure("first"); });
+                throw problem;
+            });
+            fail("Should have failed");
+        }
+        catch (AssertionException e) {
+            assertEquals("first\n-> can't continue", e.getDescription());
+        }
+
+        ViolationCollector.Failure recorded = collector.getFailures().get(1);
+        assertNull(recorded.getCheck());
+        assertNull(recorded.getField());
+        assertSame(problem, recorded.getCause());
+    }
+
+    @Test
+    public void recordError_whenVerificationEndsAfterACheckFailed() {
+        StackOverflowError problem = new StackOverflowError("too deep");
+        try {
+            collector.verify(() -> {
+                collector.run("check", field, () -> { throw failure("first"); });
+                throw problem;
+            });
+            fail("Should have failed");
+        }
+        catch (AssertionException e) {
+            assertEquals("first\n-> too deep", e.getDescription());
+        }
+    }
+
+    private static AssertionException failure(String description) {
+        return new AssertionException(Formatter.of(description));
+    }
+
+    private static Field fieldOf(Class<?> type, String name) {
+        try {
+            return type.getDeclaredField(name);
+        }
+        catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class Parent {
+        int field;
+    }
+
+    @SuppressWarnings("unused")
+    static class Child extends Parent {
+        int field;
+        int other;
+    }
+}
@@ -0,0 +1,50 @@
+package nl.jqno.equalsverifier.testhelpers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A ClassLoader that registers service providers for
+ * {@link java.util.ServiceLoader}, so they are only found by the tests that
+ * use it instead of by the whole test suite.
+ */
+public final class ServiceClassLoader extends URLClassLoader {
+    private ServiceClassLoader(URL root) {
+        super(new URL[] { root }, ServiceClassLoader.class.getClassLoader());
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param <S> The type of the service.
+     * @param service The service interface.
+     * @param providers The implementations of {@code service} to register.
+     * @return A ClassLoader whose ServiceLoader finds the given providers.
+     */
+    @SafeVarargs
+    public static <S> ServiceClassLoader of(Class<S> service, Class<? extends S>... providers) {
+        try {
+            Path root = Files.createTempDirectory("equalsverifier-services");
+            Path services = Files.createDirectories(root.resolve("META-INF/services"));
+            Path file = services.resolve(service.getName());
+            String content = Arrays.stream(providers).map(Class::getName).collect(Collectors.joining("\n"));
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+
+            // Files that are registered later are deleted first.
+            for (Path p : Arrays.asList(root, services.getParent(), services, file)) {
+                p.toFile().deleteOnExit();
+            }
+            return new ServiceClassLoader(root.toUri().toURL());
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package nl.jqno.equalsverifier.testhelpers.packages.correct;
+
+public final class B {
+    private final int x;
+    private final int y;
+
+    public B(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof B)) {
+            return false;
+        }
+        B other = (B)obj;
+        return other.x == x && other.y == y;
+    }
+
+    @Override
+    public int hashCode() {
+        return x + (31 * y);
+    }
+}
@@ -0,0 +1,13 @@
+package nl.jqno.equalsverifier.testhelpers.packages.initializer;
+
+public final class FailsWhenInitialized {
+    public static final Object VALUE = fail();
+
+    private FailsWhenInitialized() {
+        // Do not instantiate
+    }
+
+    private static Object fail() {
+        throw new IllegalStateException("FailsWhenInitialized should not be initialized");
+    }
+}
@@ -0,0 +1,25 @@
+package nl.jqno.equalsverifier.testhelpers.packages.twoincorrect;
+
+public final class C {
+    private final int x;
+    private final int y;
+
+    public C(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof C)) {
+            return false;
+        }
+        C other = (C)obj;
+        return other.x == x;
+    }
+
+    @Override
+    public int hashCode() {
+        return x + (31 * y);
+    }
+}
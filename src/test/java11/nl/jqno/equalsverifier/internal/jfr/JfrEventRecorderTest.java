@@ -0,0 +1,203 @@
+package nl.jqno.equalsverifier.internal.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.junit.Assert.*;
+
+public class JfrEventRecorderTest {
+    private static final String VERIFICATION = "nl.jqno.equalsverifier.Verification";
+    private static final String PHASE = "nl.jqno.equalsverifier.Phase";
+    private static final String PREFAB_VALUES = "nl.jqno.equalsverifier.PrefabValues";
+    private static final String DYNAMIC_SUBCLASS = "nl.jqno.equalsverifier.DynamicSubclass";
+    private static final List<String> EVENTS = Arrays.asList(VERIFICATION, PHASE, PREFAB_VALUES, DYNAMIC_SUBCLASS);
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("equalsverifier", ".jfr");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void recorderEmitsFlightRecorderEvents() {
+        assertEquals(Jfr.RECORDER_CLASS_NAME, Jfr.recorder().getClass().getName());
+    }
+
+    @Test
+    public void noVerificationListener_whenNoRecordingIsRunning() {
+        assertNull(Jfr.recorder().verificationListener());
+    }
+
+    @Test
+    public void recordVerificationAndPhases() throws IOException {
+        List<RecordedEvent> events = record(() -> EqualsVerifier.forClass(JfrPoint.class).verify());
+
+        RecordedEvent verification = only(events, VERIFICATION);
+        assertEquals(JfrPoint.class.getName(), verification.getClass("type").getName());
+        assertTrue(verification.getBoolean("successful"));
+
+        List<String> phases = events.stream()
+            .filter(e -> PHASE.equals(e.getEventType().getName()))
+            .map(e -> e.getString("phase"))
+            .collect(Collectors.toList());
+        assertThat(phases, hasItems("configuration", "annotations", "SignatureChecker", "FieldsChecker"));
+    }
+
+    @Test
+    public void recordFailedVerification() throws IOException {
+        List<RecordedEvent> events = record(() -> EqualsVerifier.forClass(BrokenJfrPoint.class).report());
+
+        RecordedEvent verification = only(events, VERIFICATION);
+        assertFalse(verification.getBoolean("successful"));
+    }
+
+    @Test
+    public void recordPrefabValues() throws IOException {
+        List<RecordedEvent> events = record(() -> EqualsVerifier.forClass(JfrPointContainer.class).verify());
+
+        List<RecordedEvent> prefabValues = events.stream()
+            .filter(e -> PREFAB_VALUES.equals(e.getEventType().getName()))
+            .filter(e -> JfrPoint.class.getName().equals(e.getClass("type").getName()))
+            .collect(Collectors.toList());
+        assertEquals(1, prefabValues.size());
+        assertEquals("JfrPoint", prefabValues.get(0).getString("typeTag"));
+    }
+
+    @Test
+    public void recordDynamicSubclasses() throws IOException {
+        List<RecordedEvent> events = record(() -> EqualsVerifier.forClass(AbstractJfrPoint.class).verify());
+
+        List<String> superclasses = events.stream()
+            .filter(e -> DYNAMIC_SUBCLASS.equals(e.getEventType().getName()))
+            .map(e -> e.getClass("superclass").getName())
+            .collect(Collectors.toList());
+        assertThat(superclasses, hasItem(AbstractJfrPoint.class.getName()));
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> result = events.stream()
+            .filter(e -> name.equals(e.getEventType().getName()))
+            .collect(Collectors.toList());
+        assertEquals(1, result.size());
+        return result.get(0);
+    }
+
+    static final class JfrPoint {
+        private final int x;
+        private final int y;
+
+        JfrPoint(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof JfrPoint)) {
+                return false;
+            }
+            JfrPoint other = (JfrPoint)obj;
+            return x == other.x && y == other.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(x, y);
+        }
+    }
+
+    static final class BrokenJfrPoint {
+        private final int x;
+
+        BrokenJfrPoint(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof BrokenJfrPoint;
+        }
+
+        @Override
+        public int hashCode() {
+            return x;
+        }
+    }
+
+    static final class JfrPointContainer {
+        private final JfrPoint point;
+
+        JfrPointContainer(JfrPoint point) {
+            this.point = point;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof JfrPointContainer)) {
+                return false;
+            }
+            return Objects.equals(point, ((JfrPointContainer)obj).point);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(point);
+        }
+    }
+
+    abstract static class AbstractJfrPoint {
+        private final int x;
+
+        AbstractJfrPoint(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public final boolean equals(Object obj) {
+            if (!(obj instanceof AbstractJfrPoint)) {
+                return false;
+            }
+            return x == ((AbstractJfrPoint)obj).x;
+        }
+
+        @Override
+        public final int hashCode() {
+            return x;
+        }
+    }
+}